@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per call type bulkhead limits. Each call type has its own defaults; a call type configured explicitly takes the
+ * generic {@link Limits} defaults for any field it leaves out.
+ */
+@ConfigurationProperties("employee.api.bulkhead")
+public record BulkheadProperties(Limits read, Limits write, Limits lookup) {
+
+    private static final Limits DEFAULT_READ = new Limits(4, 16, Duration.ofSeconds(2));
+    private static final Limits DEFAULT_WRITE = new Limits(2, 8, Duration.ofSeconds(1));
+    private static final Limits DEFAULT_LOOKUP = new Limits(4, 16, Duration.ofSeconds(1));
+
+    public BulkheadProperties {
+        read = read == null ? DEFAULT_READ : read;
+        write = write == null ? DEFAULT_WRITE : write;
+        lookup = lookup == null ? DEFAULT_LOOKUP : lookup;
+    }
+
+    public record Limits(
+            @DefaultValue("4") int maxConcurrent,
+            @DefaultValue("16") int maxQueue,
+            @DefaultValue("1s") Duration maxWait) {}
+}
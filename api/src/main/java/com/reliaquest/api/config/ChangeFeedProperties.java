@@ -0,0 +1,15 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for following the mock server's change stream. The feed tracks a single upstream change log, so it cannot
+ * be enabled together with more than one {@code employee.api.sharding.base-urls} shard.
+ */
+@ConfigurationProperties("employee.api.change-feed")
+public record ChangeFeedProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration initialReconnectDelay,
+        @DefaultValue("60s") Duration maxReconnectDelay) {}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.web.InboundPriorityLevel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Adaptive limit on concurrent inbound requests. The limit starts at {@code initialLimit} and moves between
+ * {@code minLimit} and {@code maxLimit} as latency changes; it is recalculated every {@code windowSize} completed
+ * requests. Endpoint priorities are declared on the handlers with {@link InboundPriorityLevel}.
+ */
+@ConfigurationProperties("employee.api.inbound-limit")
+public record InboundLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("20") int windowSize,
+        @DefaultValue("1.5") double rttTolerance) {}
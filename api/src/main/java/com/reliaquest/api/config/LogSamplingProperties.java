@@ -0,0 +1,17 @@
+package com.reliaquest.api.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Fraction of INFO and lower log events kept per endpoint, keyed by handler method name (e.g.
+ * {@code getEmployeeById}). Endpoints without an entry use {@code defaultRate}.
+ */
+@ConfigurationProperties("employee.api.logging.sampling")
+public record LogSamplingProperties(@DefaultValue("1.0") double defaultRate, Map<String, Double> endpoints) {
+
+    public LogSamplingProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.api.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Base URLs of the other api replicas that should hear about roster changes made through this one, and that a cold
+ * replica asks for their roster before going upstream. A peer's roster is only taken if it was read from upstream
+ * within {@code snapshotMaxAge}. Listing this replica itself is harmless; it ignores its own broadcasts.
+ *
+ * <p>Replicas prove they are peers with the shared {@code secret}, which is required once peers are listed; without
+ * one the internal roster endpoints refuse every request. At most {@code maxPendingChanges} undelivered changes are
+ * kept per peer; beyond that they are collapsed into one invalidation.
+ */
+@ConfigurationProperties("employee.api.peers")
+public record PeerProperties(
+        List<String> urls,
+        String secret,
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue("5m") Duration snapshotMaxAge,
+        @DefaultValue("256") int maxPendingChanges) {
+
+    public PeerProperties {
+        urls = urls == null ? List.of() : List.copyOf(urls);
+        if (!urls.isEmpty() && (secret == null || secret.isBlank())) {
+            throw new IllegalArgumentException("employee.api.peers.secret is required when peers are configured");
+        }
+        if (maxPendingChanges < 1) {
+            throw new IllegalArgumentException("employee.api.peers.max-pending-changes must be positive");
+        }
+    }
+
+    /**
+     * Whether the secret a caller presented matches ours, compared in constant time. Always false without a secret.
+     */
+    public boolean authenticates(String presented) {
+        if (secret == null || secret.isBlank() || presented == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
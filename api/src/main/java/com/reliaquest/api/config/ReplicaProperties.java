@@ -0,0 +1,12 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Routing across equivalent upstream replicas. A replica that answers 429 is skipped for its {@code Retry-After}, or
+ * for {@code ejection} when it sends none. A replica's last reported rate budget is trusted for {@code budgetTtl}.
+ */
+@ConfigurationProperties("employee.api.replicas")
+public record ReplicaProperties(@DefaultValue("30s") Duration ejection, @DefaultValue("30s") Duration budgetTtl) {}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Upstream slot scheduling. Per-caller grant counts used for fairness are halved every {@code fairnessWindow}, so
+ * fairness follows recent usage and callers that go quiet are forgotten.
+ */
+@ConfigurationProperties("employee.api.scheduler")
+public record SchedulerProperties(
+        @DefaultValue("4") int slots,
+        @DefaultValue("1") int reservedUserSlots,
+        @DefaultValue("2s") Duration userDeadline,
+        @DefaultValue("30s") Duration backgroundDeadline,
+        @DefaultValue("10s") Duration fairnessWindow) {}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bound on the name search result cache; the least recently used fragment is evicted beyond {@code maxEntries}.
+ */
+@ConfigurationProperties("employee.api.search-cache")
+public record SearchCacheProperties(@DefaultValue("1024") int maxEntries) {}
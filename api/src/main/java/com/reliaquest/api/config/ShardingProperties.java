@@ -0,0 +1,19 @@
+package com.reliaquest.api.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Base URLs of the mock server shards, in shard index order. Each shard lists the base URLs of its equivalent replicas,
+ * primary first, e.g. {@code base-urls[0]=http://a1,http://a2}. Writes only go to the primary, so the others must be
+ * read replicas that follow it. When empty the api talks to the single server at {@code employee.api.base-url}.
+ */
+@ConfigurationProperties("employee.api.sharding")
+public record ShardingProperties(List<List<String>> baseUrls) {
+
+    public ShardingProperties {
+        baseUrls = baseUrls == null
+                ? List.of()
+                : baseUrls.stream().map(List::copyOf).toList();
+    }
+}
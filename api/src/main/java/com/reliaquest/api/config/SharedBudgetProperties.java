@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Host-wide upstream budget shared by every api process on the machine through a memory-mapped file per upstream in
+ * {@code directory} (the system temp directory when unset). {@code capacity} and {@code refillPeriod} should match the
+ * mock server's rate limit. A call waits up to {@code maxWait} for its turn before it is treated as throttled.
+ */
+@ConfigurationProperties("employee.api.shared-budget")
+public record SharedBudgetProperties(
+        @DefaultValue("false") boolean enabled,
+        Path directory,
+        @DefaultValue("5") int capacity,
+        @DefaultValue("30s") Duration refillPeriod,
+        @DefaultValue("2s") Duration maxWait) {
+
+    public SharedBudgetProperties {
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "employee-api");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.upstream.SharedTokenBucket;
+import com.reliaquest.api.upstream.UpstreamBudget;
+import com.reliaquest.api.upstream.UpstreamReplica;
+import com.reliaquest.api.upstream.UpstreamReplicaSet;
+import com.reliaquest.api.upstream.UpstreamShards;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClient;
+
+@Configuration(proxyBeanMethods = false)
+public class UpstreamClientConfiguration {
+
+    /*
+     * Prefer the binary Smile encoding of the same documents, which is smaller and cheaper to parse; a server that
+     * cannot produce it answers in JSON.
+     */
+    static final String UPSTREAM_ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
+    @Bean(destroyMethod = "close")
+    public UpstreamShards upstreamShards(
+            @Value("${employee.api.base-url:http://localhost:8112}") String baseUrl,
+            ShardingProperties sharding,
+            ReplicaProperties replicas,
+            SharedBudgetProperties sharedBudget)
+            throws IOException {
+        List<List<String>> baseUrls = sharding.baseUrls().isEmpty() ? List.of(List.of(baseUrl)) : sharding.baseUrls();
+        List<UpstreamReplicaSet> shards = new ArrayList<>(baseUrls.size());
+        for (List<String> shard : baseUrls) {
+            List<UpstreamReplica> members = new ArrayList<>(shard.size());
+            for (String url : shard) {
+                members.add(replica(url, replicas, sharedBudget));
+            }
+            shards.add(new UpstreamReplicaSet(members, replicas.ejection()));
+        }
+        return new UpstreamShards(shards);
+    }
+
+    private static UpstreamReplica replica(
+            String baseUrl, ReplicaProperties properties, SharedBudgetProperties sharedBudget) throws IOException {
+        UpstreamBudget budget = new UpstreamBudget(properties.budgetTtl());
+        RestClient client = RestClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.ACCEPT, UPSTREAM_ACCEPT)
+                .requestInterceptor(budget)
+                .build();
+        if (!sharedBudget.enabled()) {
+            return new UpstreamReplica(baseUrl, client, budget);
+        }
+        SharedTokenBucket bucket = new SharedTokenBucket(
+                sharedBudget.directory().resolve(budgetFileName(baseUrl)),
+                sharedBudget.capacity(),
+                sharedBudget.refillPeriod());
+        return new UpstreamReplica(baseUrl, client, budget, bucket, sharedBudget.maxWait());
+    }
+
+    /*
+     * One budget file per upstream authority, so every process talking to the same server finds the same file.
+     */
+    static String budgetFileName(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        String authority = uri.getPort() < 0 ? uri.getHost() : uri.getHost() + "_" + uri.getPort();
+        return "budget-" + authority.replaceAll("[^A-Za-z0-9_.-]", "_") + ".bin";
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("employee.api.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("60s") Duration maxDuration,
+        @DefaultValue("500") int requestsPerRound,
+        @DefaultValue("3") int minRounds,
+        @DefaultValue("3") int stableRounds,
+        @DefaultValue("10ms") Duration compilationQuietThreshold) {}
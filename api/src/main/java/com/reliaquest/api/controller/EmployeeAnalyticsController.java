@@ -0,0 +1,60 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.TitleSalaryStats;
+import com.reliaquest.api.service.EmployeeAnalyticsService;
+import com.reliaquest.api.web.InboundPriority;
+import com.reliaquest.api.web.InboundPriorityLevel;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@InboundPriorityLevel(InboundPriority.HIGH)
+@RequestMapping("/api/v1/employee/analytics/salary")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeAnalyticsController {
+
+    private static final int MAX_HISTOGRAM_BUCKETS = 100;
+
+    private final EmployeeAnalyticsService analyticsService;
+
+    @GetMapping("/percentiles")
+    public ResponseEntity<Map<String, Integer>> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = "50,90,99") List<Double> percentiles) {
+        log.info("GET /api/v1/employee/analytics/salary/percentiles - Getting salary percentiles {}", percentiles);
+
+        if (percentiles.isEmpty() || percentiles.stream().anyMatch(p -> p == null || p.isNaN() || p <= 0 || p > 100)) {
+            log.warn("Invalid percentiles requested: {}", percentiles);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(analyticsService.getSalaryPercentiles(percentiles));
+    }
+
+    @GetMapping("/histogram")
+    public ResponseEntity<List<SalaryHistogramBucket>> getSalaryHistogram(
+            @RequestParam(name = "buckets", defaultValue = "10") int buckets) {
+        log.info("GET /api/v1/employee/analytics/salary/histogram - Getting salary histogram with {} buckets", buckets);
+
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            log.warn("Invalid histogram bucket count: {}", buckets);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(analyticsService.getSalaryHistogram(buckets));
+    }
+
+    @GetMapping("/titles")
+    public ResponseEntity<List<TitleSalaryStats>> getSalaryStatsByTitle() {
+        log.info("GET /api/v1/employee/analytics/salary/titles - Getting salary statistics per title");
+        return ResponseEntity.ok(analyticsService.getSalaryStatsByTitle());
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.upstream.UpstreamRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+/**
+ * Maps upstream failures raised by the employee controllers to responses in one place: a local upstream rejection
+ * (bulkhead or scheduler full) becomes 503 with {@code Retry-After}, an upstream 429 is passed through with its
+ * {@code Retry-After}, any other upstream error becomes 502 and anything unexpected 500. Handler-specific outcomes
+ * such as 404 stay in the handlers; Spring MVC's own exceptions keep their standard statuses.
+ */
+@Slf4j
+@RestControllerAdvice(basePackageClasses = EmployeeControllerAdvice.class)
+public class EmployeeControllerAdvice extends ResponseEntityExceptionHandler {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler
+    public ResponseEntity<Void> handleUpstreamRejected(UpstreamRejectedException e, HandlerMethod handler) {
+        log.warn("Upstream capacity exhausted in {}: {}", name(handler), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Void> handleHttpClientError(HttpClientErrorException e, HandlerMethod handler) {
+        if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+            log.warn("Rate limit exceeded in {}: {}", name(handler), e.getMessage());
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+            HttpHeaders headers = e.getResponseHeaders();
+            String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                response.header(HttpHeaders.RETRY_AFTER, retryAfter);
+            }
+            return response.build();
+        }
+        log.error("HTTP client error in {}", name(handler), e);
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Void> handleRestClient(RestClientException e, HandlerMethod handler) {
+        log.error("API error in {}", name(handler), e);
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Void> handleUnexpected(Exception e, HandlerMethod handler) {
+        log.error("Unexpected error in {}", name(handler), e);
+        return ResponseEntity.internalServerError().build();
+    }
+
+    private static String name(HandlerMethod handler) {
+        return handler == null ? "request" : handler.getMethod().getName();
+    }
+}
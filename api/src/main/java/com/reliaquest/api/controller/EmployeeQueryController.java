@@ -0,0 +1,152 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.roster.NamePrefixIndex;
+import com.reliaquest.api.service.EmployeeQueryService;
+import com.reliaquest.api.web.InboundPriority;
+import com.reliaquest.api.web.InboundPriorityLevel;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@InboundPriorityLevel(InboundPriority.HIGH)
+@RequestMapping("/api/v1/employee/query")
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeQueryController {
+
+    private static final String UUID_PATTERN = "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$";
+    private static final String NAME_PREFIX_PATTERN = "^[a-zA-Z.'-]{1,100}$";
+    private static final String TITLE_PATTERN = "^[a-zA-Z\\s.'-]{1,100}$";
+    private static final String EMAIL_DOMAIN_PATTERN = "^[a-zA-Z0-9.-]{1,253}$";
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final EmployeeQueryService queryService;
+
+    @GetMapping("/top")
+    public ResponseEntity<List<Employee>> getTopEarners(
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "offset", defaultValue = "0") int offset) {
+        log.info("GET /api/v1/employee/query/top - Getting top {} earners from offset {}", limit, offset);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE || offset < 0) {
+            log.warn("Invalid top earners page: limit={}, offset={}", limit, offset);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(queryService.getTopEarners(limit, offset));
+    }
+
+    @GetMapping("/rank/{id}")
+    public ResponseEntity<SalaryRank> getSalaryRank(@PathVariable String id) {
+        log.info("GET /api/v1/employee/query/rank/{} - Getting salary rank", id);
+
+        if (id == null || !id.matches(UUID_PATTERN)) {
+            log.warn("Invalid UUID format for id: {}", id);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(queryService.getSalaryRank(id));
+        } catch (IllegalArgumentException e) {
+            log.warn("Employee not found with id: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/salary-range")
+    public ResponseEntity<List<Employee>> getEmployeesInSalaryRange(
+            @RequestParam(name = "min") int minSalary, @RequestParam(name = "max") int maxSalary) {
+        log.info("GET /api/v1/employee/query/salary-range - Getting employees earning {} to {}", minSalary, maxSalary);
+
+        if (minSalary < 0 || maxSalary < minSalary) {
+            log.warn("Invalid salary range: min={}, max={}", minSalary, maxSalary);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(queryService.getEmployeesInSalaryRange(minSalary, maxSalary));
+    }
+
+    @GetMapping("/autocomplete/{prefix}")
+    public ResponseEntity<List<Employee>> autocompleteByName(
+            @PathVariable String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "sort", defaultValue = "salary") String sort) {
+        log.debug("GET /api/v1/employee/query/autocomplete/{} - Completing names", prefix);
+
+        if (prefix == null || !prefix.matches(NAME_PREFIX_PATTERN) || limit < 1 || limit > MAX_PAGE_SIZE) {
+            log.warn("Invalid autocomplete request: prefix={}, limit={}", prefix, limit);
+            return ResponseEntity.badRequest().build();
+        }
+
+        NamePrefixIndex.RankBy rankBy;
+        try {
+            rankBy = NamePrefixIndex.RankBy.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid autocomplete sort key: {}", sort);
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(queryService.autocompleteByName(prefix, limit, rankBy));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<List<Employee>> filterEmployees(
+            @RequestParam(name = "minAge", required = false) Integer minAge,
+            @RequestParam(name = "maxAge", required = false) Integer maxAge,
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "emailDomain", required = false) String emailDomain,
+            @RequestParam(name = "mode", defaultValue = "and") String mode) {
+        log.info("GET /api/v1/employee/query/filter - Filtering employees");
+
+        if (isNegative(minAge)
+                || isNegative(maxAge)
+                || isNegative(minSalary)
+                || isNegative(maxSalary)
+                || (minAge != null && maxAge != null && minAge > maxAge)
+                || (minSalary != null && maxSalary != null && minSalary > maxSalary)
+                || (title != null && !title.matches(TITLE_PATTERN))
+                || (emailDomain != null && !emailDomain.matches(EMAIL_DOMAIN_PATTERN))) {
+            log.warn("Invalid employee filter: age={}..{}, salary={}..{}", minAge, maxAge, minSalary, maxSalary);
+            return ResponseEntity.badRequest().build();
+        }
+
+        EmployeeFilter.Combinator combinator;
+        try {
+            combinator = EmployeeFilter.Combinator.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid employee filter mode: {}", mode);
+            return ResponseEntity.badRequest().build();
+        }
+
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .title(title)
+                .emailDomain(emailDomain)
+                .combinator(combinator)
+                .build();
+
+        List<Employee> employees = queryService.filterEmployees(filter);
+        log.info("Filter matched {} employees", employees.size());
+        return ResponseEntity.ok(employees);
+    }
+
+    private static boolean isNegative(Integer bound) {
+        return bound != null && bound < 0;
+    }
+}
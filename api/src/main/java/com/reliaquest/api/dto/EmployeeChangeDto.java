@@ -0,0 +1,18 @@
+package com.reliaquest.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeDto {
+
+    public static final String CREATED = "CREATED";
+    public static final String DELETED = "DELETED";
+
+    private long version;
+    private String type;
+    private MockEmployeeDto employee;
+}
@@ -0,0 +1,27 @@
+package com.reliaquest.api.dto;
+
+import lombok.Builder;
+
+@Builder
+public record EmployeeFilter(
+        Integer minAge,
+        Integer maxAge,
+        Integer minSalary,
+        Integer maxSalary,
+        String title,
+        String emailDomain,
+        Combinator combinator) {
+
+    public enum Combinator {
+        AND,
+        OR
+    }
+
+    public boolean hasAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+}
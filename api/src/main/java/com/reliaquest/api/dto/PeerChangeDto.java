@@ -0,0 +1,19 @@
+package com.reliaquest.api.dto;
+
+import com.reliaquest.api.model.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeerChangeDto {
+
+    public static final String CREATED = "CREATED";
+    public static final String DELETED = "DELETED";
+    public static final String INVALIDATE = "INVALIDATE";
+
+    private String type;
+    private Employee employee;
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records the handler method name in the MDC for the duration of the request so {@link LogSampler} can apply the
+ * endpoint's sampling rate.
+ */
+public class EndpointMdcInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            MDC.put(LogSampler.ENDPOINT_KEY, handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        MDC.remove(LogSampler.ENDPOINT_KEY);
+    }
+}
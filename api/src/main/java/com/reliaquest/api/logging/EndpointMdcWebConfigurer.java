@@ -0,0 +1,17 @@
+package com.reliaquest.api.logging;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Tags each request with its endpoint so {@link LogSampler} can find the matching rate.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EndpointMdcWebConfigurer implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointMdcInterceptor());
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Logback turbo filter that keeps only a fraction of INFO and lower events logged while a request is being handled.
+ * The rate is looked up by the endpoint recorded in the {@link #ENDPOINT_KEY} MDC entry; WARN and ERROR always pass,
+ * as does anything logged outside a request.
+ *
+ * <p>Turbo filters run before the logger's level check and before the message is formatted, so a dropped event costs a
+ * map lookup and a random draw. Events below the logger's level are passed straight through to the level check, and
+ * {@code isXxxEnabled()} probes are never sampled, so a guarded statement is sampled exactly once.
+ */
+public class LogSampler extends TurboFilter {
+
+    public static final String ENDPOINT_KEY = "endpoint";
+
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+    private volatile double defaultRate;
+
+    public LogSampler(double defaultRate, Map<String, Double> rates) {
+        reset(defaultRate, rates);
+        setName("endpoint-log-sampler");
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null
+                || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String endpoint = MDC.get(ENDPOINT_KEY);
+        if (endpoint == null) {
+            return FilterReply.NEUTRAL;
+        }
+        double rate = rates.getOrDefault(endpoint, defaultRate);
+        if (rate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * Stops the filter and detaches it from the Logback context it was added to.
+     */
+    @Override
+    public void stop() {
+        if (getContext() instanceof LoggerContext loggerContext) {
+            loggerContext.getTurboFilterList().remove(this);
+        }
+        super.stop();
+    }
+
+    public double defaultRate() {
+        return defaultRate;
+    }
+
+    public Map<String, Double> rates() {
+        return new TreeMap<>(rates);
+    }
+
+    public void setDefaultRate(double rate) {
+        defaultRate = clamp(rate);
+    }
+
+    public void setRate(String endpoint, double rate) {
+        rates.put(endpoint, clamp(rate));
+    }
+
+    public void clearRate(String endpoint) {
+        rates.remove(endpoint);
+    }
+
+    public void reset(double defaultRate, Map<String, Double> rates) {
+        this.rates.clear();
+        rates.forEach(this::setRate);
+        setDefaultRate(defaultRate);
+    }
+
+    private static double clamp(double rate) {
+        if (Double.isNaN(rate)) {
+            throw new IllegalArgumentException("Sampling rate must be a number");
+        }
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
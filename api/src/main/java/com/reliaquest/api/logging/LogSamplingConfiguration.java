@@ -0,0 +1,26 @@
+package com.reliaquest.api.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.reliaquest.api.config.LogSamplingProperties;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Installs {@link LogSampler} into the Logback context once Spring Boot has configured logging. The filter is removed
+ * again when the context closes.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LogSamplingConfiguration {
+
+    @Bean(destroyMethod = "stop")
+    public LogSampler logSampler(LogSamplingProperties properties) {
+        LogSampler sampler = new LogSampler(properties.defaultRate(), properties.endpoints());
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext context) {
+            sampler.setContext(context);
+            sampler.start();
+            context.addTurboFilter(sampler);
+        }
+        return sampler;
+    }
+}
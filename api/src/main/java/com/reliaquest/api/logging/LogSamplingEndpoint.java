@@ -0,0 +1,48 @@
+package com.reliaquest.api.logging;
+
+import com.reliaquest.api.config.LogSamplingProperties;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/logsampling}: reads and adjusts the per-endpoint log sampling rates at runtime. Writing to
+ * {@code /actuator/logsampling/{endpoint}} changes that endpoint's rate and writing to the root changes the default
+ * rate; deleting restores the configured rates.
+ */
+@Component
+@Endpoint(id = "logsampling")
+@RequiredArgsConstructor
+public class LogSamplingEndpoint {
+
+    private final LogSampler sampler;
+    private final LogSamplingProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> rates() {
+        return Map.of("defaultRate", sampler.defaultRate(), "endpoints", sampler.rates());
+    }
+
+    @WriteOperation
+    public Map<String, Object> updateDefault(double rate) {
+        sampler.setDefaultRate(rate);
+        return rates();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Selector String endpoint, double rate) {
+        sampler.setRate(endpoint, rate);
+        return rates();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset() {
+        sampler.reset(properties.defaultRate(), properties.endpoints());
+        return rates();
+    }
+}
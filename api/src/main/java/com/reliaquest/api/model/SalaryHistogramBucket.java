@@ -0,0 +1,3 @@
+package com.reliaquest.api.model;
+
+public record SalaryHistogramBucket(int lowerBound, int upperBound, int count) {}
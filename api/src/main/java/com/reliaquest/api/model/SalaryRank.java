@@ -0,0 +1,5 @@
+package com.reliaquest.api.model;
+
+import java.util.UUID;
+
+public record SalaryRank(UUID id, String name, int salary, int rank, int total) {}
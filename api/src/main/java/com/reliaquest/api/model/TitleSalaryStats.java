@@ -0,0 +1,3 @@
+package com.reliaquest.api.model;
+
+public record TitleSalaryStats(String title, int count, double mean, int min, int max) {}
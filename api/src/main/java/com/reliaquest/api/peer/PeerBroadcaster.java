@@ -0,0 +1,163 @@
+package com.reliaquest.api.peer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.dto.PeerChangeDto;
+import com.reliaquest.api.model.Employee;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells the configured peer replicas about creates and deletes made through this replica, so they can patch their
+ * roster and cached list in place instead of going back upstream. Sends are asynchronous and never delay the caller.
+ * Changes to one peer are delivered in order; after a failed delivery the peer is told to drop its roster before the
+ * next change, so a missed change can only cost it one reload. A peer that falls more than
+ * {@code maxPendingChanges} behind has its backlog replaced by a single invalidation, since the reload it triggers
+ * already includes every dropped change.
+ */
+@Slf4j
+@Component
+public class PeerBroadcaster {
+
+    static final String ORIGIN_HEADER = "X-Peer-Origin";
+    static final String SECRET_HEADER = "X-Peer-Secret";
+    static final String CHANGES_PATH = "/internal/v1/roster/changes";
+
+    private final String origin = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final String secret;
+    private final int maxPending;
+    private final byte[] invalidation;
+    private final HttpClient httpClient;
+    private final List<Peer> peers;
+
+    public PeerBroadcaster(PeerProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.timeout = properties.timeout();
+        this.secret = properties.secret();
+        this.maxPending = properties.maxPendingChanges();
+        try {
+            this.invalidation = objectMapper.writeValueAsBytes(new PeerChangeDto(PeerChangeDto.INVALIDATE, null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.peers = properties.urls().stream()
+                .map(url -> new Peer(URI.create(url + CHANGES_PATH)))
+                .toList();
+    }
+
+    /**
+     * Identifies this replica in the {@value #ORIGIN_HEADER} header of its broadcasts.
+     */
+    public String origin() {
+        return origin;
+    }
+
+    public void created(Employee employee) {
+        broadcast(new PeerChangeDto(PeerChangeDto.CREATED, employee));
+    }
+
+    public void deleted(UUID id) {
+        broadcast(new PeerChangeDto(
+                PeerChangeDto.DELETED, Employee.builder().id(id).build()));
+    }
+
+    private void broadcast(PeerChangeDto change) {
+        if (peers.isEmpty()) {
+            return;
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(change);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not encode {} change for peers: {}", change.getType(), e.getMessage());
+            return;
+        }
+        peers.forEach(peer -> peer.send(body));
+    }
+
+    private final class Peer {
+
+        private final URI uri;
+        private final Deque<byte[]> pending = new ArrayDeque<>();
+        private boolean sending;
+        private volatile boolean missed;
+
+        Peer(URI uri) {
+            this.uri = uri;
+        }
+
+        synchronized void send(byte[] body) {
+            if (pending.size() < maxPending) {
+                pending.addLast(body);
+            } else if (pending.size() != 1 || pending.peekFirst() != invalidation) {
+                log.warn("Peer {} is {} changes behind, telling it to reload instead", uri.getAuthority(), maxPending);
+                pending.clear();
+                pending.addLast(invalidation);
+            }
+            if (!sending) {
+                sending = true;
+                deliverNext();
+            }
+        }
+
+        private void deliverNext() {
+            byte[] body;
+            synchronized (this) {
+                body = pending.pollFirst();
+                if (body == null) {
+                    sending = false;
+                    return;
+                }
+            }
+            deliver(body).whenComplete((ignored, failure) -> deliverNext());
+        }
+
+        private CompletableFuture<Void> deliver(byte[] body) {
+            CompletableFuture<Void> resync = missed && body != invalidation
+                    ? post(invalidation).thenRun(() -> missed = false)
+                    : CompletableFuture.completedFuture(null);
+            return resync.thenCompose(ignored -> post(body)).handle((ignored, failure) -> {
+                if (failure == null && body == invalidation) {
+                    missed = false;
+                } else if (failure != null) {
+                    missed = true;
+                    log.warn("Could not deliver roster change to peer {}: {}", uri.getAuthority(), failure.toString());
+                }
+                return null;
+            });
+        }
+
+        private CompletableFuture<Void> post(byte[] body) {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(ORIGIN_HEADER, origin)
+                    .header(SECRET_HEADER, secret)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            return httpClient
+                    .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() >= 300) {
+                            throw new IllegalStateException("peer answered " + response.statusCode());
+                        }
+                    });
+        }
+    }
+}
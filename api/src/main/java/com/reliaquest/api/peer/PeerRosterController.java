@@ -0,0 +1,86 @@
+package com.reliaquest.api.peer;
+
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.dto.PeerChangeDto;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RosterSnapshot;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal endpoints other api replicas call to keep this replica's roster in step with theirs and to borrow it when
+ * they are cold. Callers must present the shared peer secret; anything else is answered 401.
+ */
+@RestController
+@RequestMapping("/internal/v1/roster")
+@RequiredArgsConstructor
+@Slf4j
+public class PeerRosterController {
+
+    static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
+    private final PeerRosterService peerRosterService;
+    private final PeerBroadcaster peerBroadcaster;
+    private final EmployeeRoster roster;
+    private final PeerProperties properties;
+
+    /**
+     * The roster this replica currently holds, in {@link RosterSnapshotCodec} form, or 404 if it holds none. Never
+     * triggers an upstream read.
+     */
+    @GetMapping("/snapshot")
+    public void getSnapshot(
+            @RequestHeader(name = PeerBroadcaster.ORIGIN_HEADER, required = false) String origin,
+            @RequestHeader(name = PeerBroadcaster.SECRET_HEADER, required = false) String secret,
+            HttpServletResponse response)
+            throws IOException {
+        if (!properties.authenticates(secret)) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        Optional<RosterSnapshot> snapshot = roster.current();
+        if (snapshot.isEmpty() || peerBroadcaster.origin().equals(origin)) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        response.setContentType(RosterSnapshotCodec.MEDIA_TYPE);
+        response.setHeader(ROSTER_VERSION_HEADER, Long.toString(snapshot.get().version()));
+        try (OutputStream out = new BufferedOutputStream(response.getOutputStream(), 1 << 16)) {
+            RosterSnapshotCodec.write(snapshot.get(), out);
+        }
+    }
+
+    @PostMapping("/changes")
+    public ResponseEntity<Void> applyChange(
+            @RequestHeader(name = PeerBroadcaster.ORIGIN_HEADER, required = false) String origin,
+            @RequestHeader(name = PeerBroadcaster.SECRET_HEADER, required = false) String secret,
+            @RequestBody PeerChangeDto change) {
+        if (!properties.authenticates(secret)) {
+            log.warn("Rejected unauthenticated peer change");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (peerBroadcaster.origin().equals(origin)) {
+            return ResponseEntity.noContent().build();
+        }
+        try {
+            peerRosterService.apply(change);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected peer change: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
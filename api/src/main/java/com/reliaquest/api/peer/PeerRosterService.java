@@ -0,0 +1,65 @@
+package com.reliaquest.api.peer;
+
+import com.reliaquest.api.dto.PeerChangeDto;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RosterInvalidatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies roster changes broadcast by peer replicas to the local roster and cached employee list, without an upstream
+ * read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PeerRosterService {
+
+    static final String EMPLOYEES_CACHE = "employees";
+
+    private final EmployeeRoster roster;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void apply(PeerChangeDto change) {
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        switch (change.getType() == null ? "" : change.getType()) {
+            case PeerChangeDto.CREATED -> roster.add(requireEmployee(change).getEmployee());
+            case PeerChangeDto.DELETED -> roster.remove(
+                    requireEmployee(change).getEmployee().getId());
+            case PeerChangeDto.INVALIDATE -> {
+                log.info("Dropping cached roster at a peer's request");
+                roster.clear();
+                if (cache != null) {
+                    cache.clear();
+                }
+                eventPublisher.publishEvent(new RosterInvalidatedEvent("invalidated by a peer"));
+                return;
+            }
+            default -> throw new IllegalArgumentException("Unknown peer change type: " + change.getType());
+        }
+        log.debug(
+                "Applied peer {} of employee {}",
+                change.getType(),
+                change.getEmployee().getId());
+
+        if (cache != null && cache.get(SimpleKey.EMPTY) != null) {
+            roster.current()
+                    .ifPresentOrElse(
+                            snapshot -> cache.put(SimpleKey.EMPTY, snapshot.employees()),
+                            () -> cache.evict(SimpleKey.EMPTY));
+        }
+    }
+
+    private static PeerChangeDto requireEmployee(PeerChangeDto change) {
+        if (change.getEmployee() == null || change.getEmployee().getId() == null) {
+            throw new IllegalArgumentException("Peer change is missing the employee id");
+        }
+        return change;
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.peer;
+
+import com.reliaquest.api.config.PeerProperties;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Asks peer replicas for their roster before this replica spends an upstream call on it. Peers are tried one at a
+ * time from a random starting point, so cold replicas spread their requests; the first peer with a roster loaded from
+ * upstream recently enough wins. A peer without a roster answers 404 rather than going upstream itself.
+ */
+@Slf4j
+@Component
+public class PeerSnapshotClient {
+
+    static final String SNAPSHOT_PATH = "/internal/v1/roster/snapshot";
+
+    private final List<URI> peers;
+    private final String secret;
+    private final Duration timeout;
+    private final Duration maxAge;
+    private final HttpClient httpClient;
+
+    public PeerSnapshotClient(PeerProperties properties) {
+        this.peers = properties.urls().stream()
+                .map(url -> URI.create(url + SNAPSHOT_PATH))
+                .toList();
+        this.secret = properties.secret();
+        this.timeout = properties.timeout();
+        this.maxAge = properties.snapshotMaxAge();
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    public Optional<RosterSnapshotCodec.Decoded> fetch(String origin) {
+        if (peers.isEmpty()) {
+            return Optional.empty();
+        }
+        int start = ThreadLocalRandom.current().nextInt(peers.size());
+        for (int i = 0; i < peers.size(); i++) {
+            URI peer = peers.get((start + i) % peers.size());
+            try {
+                Optional<RosterSnapshotCodec.Decoded> snapshot = fetch(peer, origin);
+                if (snapshot.isPresent()) {
+                    log.info(
+                            "Loaded {} employees from peer {}",
+                            snapshot.get().employees().size(),
+                            peer.getAuthority());
+                    return snapshot;
+                }
+            } catch (IOException e) {
+                log.debug("Peer {} could not share its roster: {}", peer.getAuthority(), e.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<RosterSnapshotCodec.Decoded> fetch(URI peer, String origin)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(peer)
+                .timeout(timeout)
+                .header(HttpHeaders.ACCEPT, RosterSnapshotCodec.MEDIA_TYPE)
+                .header(PeerBroadcaster.ORIGIN_HEADER, origin)
+                .header(PeerBroadcaster.SECRET_HEADER, secret)
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = new BufferedInputStream(response.body(), 1 << 16)) {
+            if (response.statusCode() != 200) {
+                return Optional.empty();
+            }
+            RosterSnapshotCodec.Decoded snapshot = RosterSnapshotCodec.read(body);
+            if (snapshot.loadedAt().isBefore(Instant.now().minus(maxAge))) {
+                log.debug("Ignoring roster from peer {} loaded at {}", peer.getAuthority(), snapshot.loadedAt());
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        }
+    }
+}
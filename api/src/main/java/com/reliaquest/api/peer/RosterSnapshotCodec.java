@@ -0,0 +1,114 @@
+package com.reliaquest.api.peer;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterSnapshot;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a roster snapshot for transfer between api replicas: a header with the snapshot version and
+ * upstream load time, then one record per employee holding a presence bitmask followed by only the fields that are
+ * set, the id as two longs. Strings use modified UTF-8 as written by {@link DataOutputStream#writeUTF}.
+ */
+public final class RosterSnapshotCodec {
+
+    public static final String MEDIA_TYPE = "application/vnd.reliaquest.roster-snapshot";
+
+    private static final int MAGIC = 0x52535031; // "RSP1"
+    private static final int NAME = 1;
+    private static final int SALARY = 1 << 1;
+    private static final int AGE = 1 << 2;
+    private static final int TITLE = 1 << 3;
+    private static final int EMAIL = 1 << 4;
+    private static final int ID = 1 << 5;
+    private static final int MAX_EMPLOYEES = 50_000_000;
+    // The count comes from the peer, so larger rosters grow the list as records actually arrive.
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+    private RosterSnapshotCodec() {}
+
+    public static void write(RosterSnapshot snapshot, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeLong(snapshot.version());
+        data.writeLong(snapshot.loadedAt().toEpochMilli());
+        data.writeInt(snapshot.size());
+        for (Employee employee : snapshot.employees()) {
+            int present = (employee.getId() != null ? ID : 0)
+                    | (employee.getName() != null ? NAME : 0)
+                    | (employee.getSalary() != null ? SALARY : 0)
+                    | (employee.getAge() != null ? AGE : 0)
+                    | (employee.getTitle() != null ? TITLE : 0)
+                    | (employee.getEmail() != null ? EMAIL : 0);
+            data.writeByte(present);
+            if ((present & ID) != 0) {
+                data.writeLong(employee.getId().getMostSignificantBits());
+                data.writeLong(employee.getId().getLeastSignificantBits());
+            }
+            if ((present & NAME) != 0) {
+                data.writeUTF(employee.getName());
+            }
+            if ((present & SALARY) != 0) {
+                data.writeInt(employee.getSalary());
+            }
+            if ((present & AGE) != 0) {
+                data.writeInt(employee.getAge());
+            }
+            if ((present & TITLE) != 0) {
+                data.writeUTF(employee.getTitle());
+            }
+            if ((present & EMAIL) != 0) {
+                data.writeUTF(employee.getEmail());
+            }
+        }
+        data.flush();
+    }
+
+    public static Decoded read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a roster snapshot");
+        }
+        long version = data.readLong();
+        Instant loadedAt = Instant.ofEpochMilli(data.readLong());
+        int count = data.readInt();
+        if (count < 0 || count > MAX_EMPLOYEES) {
+            throw new IOException("Implausible roster size " + count);
+        }
+        List<Employee> employees = new ArrayList<>(Math.min(count, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < count; i++) {
+            int present = data.readUnsignedByte();
+            Employee employee = new Employee();
+            if ((present & ID) != 0) {
+                employee.setId(new UUID(data.readLong(), data.readLong()));
+            }
+            if ((present & NAME) != 0) {
+                employee.setName(data.readUTF());
+            }
+            if ((present & SALARY) != 0) {
+                employee.setSalary(data.readInt());
+            }
+            if ((present & AGE) != 0) {
+                employee.setAge(data.readInt());
+            }
+            if ((present & TITLE) != 0) {
+                employee.setTitle(data.readUTF());
+            }
+            if ((present & EMAIL) != 0) {
+                employee.setEmail(data.readUTF());
+            }
+            employees.add(employee);
+        }
+        return new Decoded(version, loadedAt, Collections.unmodifiableList(employees));
+    }
+
+    public record Decoded(long version, Instant loadedAt, List<Employee> employees) {}
+}
@@ -0,0 +1,223 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Per-attribute bitmaps over the rows of one {@link RosterSnapshot}: one bitmap per age, per salary bucket, per title
+ * and per e-mail domain. A filter is answered with bitmap {@code and}/{@code or} operations; only the two edge salary
+ * buckets of a range are checked row by row against a primitive salary array.
+ *
+ * <p>Bitmaps are never mutated once published. A create copies only the bitmaps it touches; a delete clears the row
+ * in the {@code live} mask and leaves a tombstone until the next full snapshot.
+ */
+public final class AttributeBitmapIndex {
+
+    private static final int SALARY_BUCKET_WIDTH = 10_000;
+    private static final int NO_SALARY = Integer.MIN_VALUE;
+    private static final BitSet NONE = new BitSet();
+
+    private final Employee[] rows;
+    private final int[] salaries;
+    private final BitSet live;
+    private final NavigableMap<Integer, BitSet> byAge;
+    private final NavigableMap<Integer, BitSet> bySalaryBucket;
+    private final Map<String, BitSet> byTitle;
+    private final Map<String, BitSet> byEmailDomain;
+
+    private AttributeBitmapIndex(
+            Employee[] rows,
+            int[] salaries,
+            BitSet live,
+            NavigableMap<Integer, BitSet> byAge,
+            NavigableMap<Integer, BitSet> bySalaryBucket,
+            Map<String, BitSet> byTitle,
+            Map<String, BitSet> byEmailDomain) {
+        this.rows = rows;
+        this.salaries = salaries;
+        this.live = live;
+        this.byAge = byAge;
+        this.bySalaryBucket = bySalaryBucket;
+        this.byTitle = byTitle;
+        this.byEmailDomain = byEmailDomain;
+    }
+
+    public static AttributeBitmapIndex of(List<Employee> employees) {
+        int size = employees.size();
+        Employee[] rows = employees.toArray(Employee[]::new);
+        int[] salaries = new int[size];
+        BitSet live = new BitSet(size);
+        live.set(0, size);
+        NavigableMap<Integer, BitSet> byAge = new TreeMap<>();
+        NavigableMap<Integer, BitSet> bySalaryBucket = new TreeMap<>();
+        Map<String, BitSet> byTitle = new HashMap<>();
+        Map<String, BitSet> byEmailDomain = new HashMap<>();
+
+        for (int row = 0; row < size; row++) {
+            Employee employee = rows[row];
+            salaries[row] = employee.getSalary() == null ? NO_SALARY : employee.getSalary();
+            if (employee.getAge() != null) {
+                byAge.computeIfAbsent(employee.getAge(), ignored -> new BitSet())
+                        .set(row);
+            }
+            if (employee.getSalary() != null) {
+                bySalaryBucket
+                        .computeIfAbsent(salaryBucket(employee.getSalary()), ignored -> new BitSet())
+                        .set(row);
+            }
+            if (employee.getTitle() != null) {
+                byTitle.computeIfAbsent(normalize(employee.getTitle()), ignored -> new BitSet())
+                        .set(row);
+            }
+            String domain = emailDomain(employee.getEmail());
+            if (domain != null) {
+                byEmailDomain.computeIfAbsent(domain, ignored -> new BitSet()).set(row);
+            }
+        }
+        return new AttributeBitmapIndex(rows, salaries, live, byAge, bySalaryBucket, byTitle, byEmailDomain);
+    }
+
+    public AttributeBitmapIndex plus(Employee employee) {
+        int row = rows.length;
+        Employee[] nextRows = Arrays.copyOf(rows, row + 1);
+        nextRows[row] = employee;
+        int[] nextSalaries = Arrays.copyOf(salaries, row + 1);
+        nextSalaries[row] = employee.getSalary() == null ? NO_SALARY : employee.getSalary();
+        BitSet nextLive = (BitSet) live.clone();
+        nextLive.set(row);
+
+        NavigableMap<Integer, BitSet> nextByAge = new TreeMap<>(byAge);
+        NavigableMap<Integer, BitSet> nextBySalaryBucket = new TreeMap<>(bySalaryBucket);
+        Map<String, BitSet> nextByTitle = new HashMap<>(byTitle);
+        Map<String, BitSet> nextByEmailDomain = new HashMap<>(byEmailDomain);
+        if (employee.getAge() != null) {
+            copyOnWrite(nextByAge, employee.getAge()).set(row);
+        }
+        if (employee.getSalary() != null) {
+            copyOnWrite(nextBySalaryBucket, salaryBucket(employee.getSalary())).set(row);
+        }
+        if (employee.getTitle() != null) {
+            copyOnWrite(nextByTitle, normalize(employee.getTitle())).set(row);
+        }
+        String domain = emailDomain(employee.getEmail());
+        if (domain != null) {
+            copyOnWrite(nextByEmailDomain, domain).set(row);
+        }
+        return new AttributeBitmapIndex(
+                nextRows, nextSalaries, nextLive, nextByAge, nextBySalaryBucket, nextByTitle, nextByEmailDomain);
+    }
+
+    public AttributeBitmapIndex minus(Employee employee) {
+        BitSet nextLive = (BitSet) live.clone();
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            if (Objects.equals(rows[row].getId(), employee.getId())) {
+                nextLive.clear(row);
+            }
+        }
+        return new AttributeBitmapIndex(rows, salaries, nextLive, byAge, bySalaryBucket, byTitle, byEmailDomain);
+    }
+
+    public List<Employee> filter(EmployeeFilter filter) {
+        List<BitSet> clauses = new ArrayList<>(4);
+        if (filter.hasAgeRange()) {
+            clauses.add(ageRange(
+                    filter.minAge() == null ? Integer.MIN_VALUE : filter.minAge(),
+                    filter.maxAge() == null ? Integer.MAX_VALUE : filter.maxAge()));
+        }
+        if (filter.hasSalaryRange()) {
+            clauses.add(salaryRange(
+                    filter.minSalary() == null ? 0 : filter.minSalary(),
+                    filter.maxSalary() == null ? Integer.MAX_VALUE : filter.maxSalary()));
+        }
+        if (filter.title() != null) {
+            clauses.add(byTitle.getOrDefault(normalize(filter.title()), NONE));
+        }
+        if (filter.emailDomain() != null) {
+            clauses.add(byEmailDomain.getOrDefault(normalize(filter.emailDomain()), NONE));
+        }
+
+        BitSet matches = (BitSet) live.clone();
+        if (!clauses.isEmpty()) {
+            BitSet combined = (BitSet) clauses.get(0).clone();
+            for (BitSet clause : clauses.subList(1, clauses.size())) {
+                if (filter.combinator() == EmployeeFilter.Combinator.OR) {
+                    combined.or(clause);
+                } else {
+                    combined.and(clause);
+                }
+            }
+            matches.and(combined);
+        }
+
+        List<Employee> result = new ArrayList<>(matches.cardinality());
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            result.add(rows[row]);
+        }
+        return result;
+    }
+
+    private BitSet ageRange(int minAge, int maxAge) {
+        BitSet result = new BitSet(rows.length);
+        if (minAge <= maxAge) {
+            byAge.subMap(minAge, true, maxAge, true).values().forEach(result::or);
+        }
+        return result;
+    }
+
+    private BitSet salaryRange(int minSalary, int maxSalary) {
+        BitSet result = new BitSet(rows.length);
+        if (minSalary > maxSalary) {
+            return result;
+        }
+        for (Map.Entry<Integer, BitSet> bucket : bySalaryBucket
+                .subMap(salaryBucket(minSalary), true, salaryBucket(maxSalary), true)
+                .entrySet()) {
+            long bucketLow = bucket.getKey();
+            long bucketHigh = bucketLow + SALARY_BUCKET_WIDTH - 1;
+            if (bucketLow >= minSalary && bucketHigh <= maxSalary) {
+                result.or(bucket.getValue());
+                continue;
+            }
+            BitSet edge = bucket.getValue();
+            for (int row = edge.nextSetBit(0); row >= 0; row = edge.nextSetBit(row + 1)) {
+                if (salaries[row] >= minSalary && salaries[row] <= maxSalary) {
+                    result.set(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static <K> BitSet copyOnWrite(Map<K, BitSet> bitmaps, K key) {
+        BitSet existing = bitmaps.get(key);
+        BitSet copy = existing == null ? new BitSet() : (BitSet) existing.clone();
+        bitmaps.put(key, copy);
+        return copy;
+    }
+
+    private static int salaryBucket(int salary) {
+        return Math.floorDiv(salary, SALARY_BUCKET_WIDTH) * SALARY_BUCKET_WIDTH;
+    }
+
+    private static String emailDomain(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at < 0 || at == email.length() - 1 ? null : normalize(email.substring(at + 1));
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link RosterSnapshot}. A full upstream fetch publishes a fresh snapshot; creates and deletes
+ * performed through this api are applied incrementally on top of the current one.
+ */
+@Slf4j
+@Component
+public class EmployeeRoster {
+
+    private final AtomicReference<RosterSnapshot> current = new AtomicReference<>();
+
+    /** Version of the last snapshot cleared, so versions keep increasing across a reload. */
+    private final AtomicLong clearedVersion = new AtomicLong();
+
+    public Optional<RosterSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    public RosterSnapshot publish(List<Employee> employees) {
+        return publish(employees, Instant.now());
+    }
+
+    /**
+     * Publishes a roster that was read from upstream at {@code loadedAt}, possibly by a peer replica.
+     */
+    public RosterSnapshot publish(List<Employee> employees, Instant loadedAt) {
+        RosterSnapshot snapshot =
+                current.updateAndGet(previous -> RosterSnapshot.of(nextVersion(previous), employees, loadedAt));
+        log.debug("Published roster snapshot v{} with {} employees", snapshot.version(), snapshot.size());
+        return snapshot;
+    }
+
+    public void add(Employee employee) {
+        current.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withAdded(employee));
+    }
+
+    public void remove(UUID id) {
+        current.updateAndGet(snapshot -> snapshot == null ? null : snapshot.withRemoved(id));
+    }
+
+    public void clear() {
+        RosterSnapshot previous = current.getAndSet(null);
+        if (previous != null) {
+            clearedVersion.accumulateAndGet(previous.version(), Math::max);
+        }
+        log.debug("Cleared roster snapshot");
+    }
+
+    private long nextVersion(RosterSnapshot previous) {
+        return previous == null ? clearedVersion.get() + 1 : previous.version() + 1;
+    }
+}
@@ -0,0 +1,142 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sorted array of lower-cased name tokens (first, middle and last names) pointing back at their employees. A prefix
+ * lookup is a binary search to the first matching token followed by a scan of the matching run, keeping only the
+ * best {@code k} employees in a bounded heap.
+ */
+public final class NamePrefixIndex {
+
+    public enum RankBy {
+        SALARY(Comparator.comparing(Employee::getSalary, Comparator.nullsLast(Comparator.reverseOrder()))),
+        NAME(Comparator.comparing(Employee::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+
+        private final Comparator<Employee> order;
+
+        RankBy(Comparator<Employee> order) {
+            this.order = order;
+        }
+    }
+
+    private final String[] tokens;
+    private final Employee[] owners;
+
+    private NamePrefixIndex(String[] tokens, Employee[] owners) {
+        this.tokens = tokens;
+        this.owners = owners;
+    }
+
+    public static NamePrefixIndex of(List<Employee> employees) {
+        List<Entry> entries = new ArrayList<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            for (String token : tokenize(employee.getName())) {
+                entries.add(new Entry(token, employee));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::token));
+
+        String[] tokens = new String[entries.size()];
+        Employee[] owners = new Employee[entries.size()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = entries.get(i).token();
+            owners[i] = entries.get(i).employee();
+        }
+        return new NamePrefixIndex(tokens, owners);
+    }
+
+    public NamePrefixIndex plus(Employee employee) {
+        String[] nextTokens = tokens;
+        Employee[] nextOwners = owners;
+        for (String token : tokenize(employee.getName())) {
+            int index = insertionPoint(nextTokens, token);
+            String[] grownTokens = new String[nextTokens.length + 1];
+            Employee[] grownOwners = new Employee[nextOwners.length + 1];
+            System.arraycopy(nextTokens, 0, grownTokens, 0, index);
+            System.arraycopy(nextOwners, 0, grownOwners, 0, index);
+            grownTokens[index] = token;
+            grownOwners[index] = employee;
+            System.arraycopy(nextTokens, index, grownTokens, index + 1, nextTokens.length - index);
+            System.arraycopy(nextOwners, index, grownOwners, index + 1, nextOwners.length - index);
+            nextTokens = grownTokens;
+            nextOwners = grownOwners;
+        }
+        return new NamePrefixIndex(nextTokens, nextOwners);
+    }
+
+    public NamePrefixIndex minus(Employee employee) {
+        UUID id = employee.getId();
+        String[] nextTokens = new String[tokens.length];
+        Employee[] nextOwners = new Employee[owners.length];
+        int size = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (!Objects.equals(id, owners[i].getId())) {
+                nextTokens[size] = tokens[i];
+                nextOwners[size] = owners[i];
+                size++;
+            }
+        }
+        if (size == tokens.length) {
+            return this;
+        }
+        return new NamePrefixIndex(Arrays.copyOf(nextTokens, size), Arrays.copyOf(nextOwners, size));
+    }
+
+    public List<Employee> complete(String prefix, int limit, RankBy rankBy) {
+        String normalized = prefix.toLowerCase(Locale.ROOT);
+        Comparator<Employee> best = rankBy.order;
+        PriorityQueue<Employee> heap = new PriorityQueue<>(limit + 1, best.reversed());
+        Set<UUID> seen = new HashSet<>();
+
+        for (int i = insertionPoint(tokens, normalized); i < tokens.length && tokens[i].startsWith(normalized); i++) {
+            Employee employee = owners[i];
+            if (!seen.add(employee.getId())) {
+                continue;
+            }
+            heap.offer(employee);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Employee> result = new ArrayList<>(heap);
+        result.sort(best);
+        return result;
+    }
+
+    private static int insertionPoint(String[] sorted, String value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<String> tokenize(String name) {
+        if (name == null || name.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(name.toLowerCase(Locale.ROOT).trim().split("\\s+"))
+                .distinct()
+                .toList();
+    }
+
+    private record Entry(String token, Employee employee) {}
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.config.SearchCacheProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU cache of name search results, keyed by lowercased fragment and {@link RosterSnapshot#version() snapshot
+ * version}. A result is only ever served for the snapshot it was computed from, so no explicit invalidation is needed;
+ * the first lookup against a newer snapshot drops every entry of older ones at once.
+ */
+@Component
+public class NameSearchCache {
+
+    private final int maxEntries;
+    private final Map<Key, List<Employee>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private long version = -1L;
+
+    public NameSearchCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.maxEntries = Math.max(1, properties.maxEntries());
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Employee>> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hits =
+                Counter.builder("employee.search.cache").tag("result", "hit").register(meterRegistry);
+        this.misses =
+                Counter.builder("employee.search.cache").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("employee.search.cache.evictions").register(meterRegistry);
+        Gauge.builder("employee.search.cache.size", this, NameSearchCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached result for {@code fragment} against {@code snapshot}, computing and caching it on a miss. The
+     * search itself runs outside the lock; concurrent misses for the same key may each compute it.
+     */
+    public List<Employee> get(RosterSnapshot snapshot, String fragment, Function<String, List<Employee>> search) {
+        Key key = new Key(fragment.toLowerCase(Locale.ROOT), snapshot.version());
+        synchronized (this) {
+            if (key.version() > version) {
+                entries.clear();
+                version = key.version();
+            }
+            List<Employee> cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        List<Employee> result = List.copyOf(search.apply(key.fragment()));
+        synchronized (this) {
+            if (key.version() == version) {
+                entries.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public double hitRate() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    private record Key(String fragment, long version) {}
+}
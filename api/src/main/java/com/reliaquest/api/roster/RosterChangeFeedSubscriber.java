@@ -0,0 +1,280 @@
+package com.reliaquest.api.roster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.ChangeFeedProperties;
+import com.reliaquest.api.config.ShardingProperties;
+import com.reliaquest.api.dto.EmployeeChangeDto;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Follows the mock server's change stream and applies each create/delete to the cached roster, replacing full
+ * refetches with per-change updates. Whenever continuity with the server's log cannot be proven (first connect or a
+ * {@code reset} event) the local roster is dropped so the next read reloads it once. Recently applied changes are kept
+ * so a full fetch that raced them can be brought up to date before it is published.
+ *
+ * <p>The feed follows one server's change log, so it is only supported against a single upstream: the primary of the
+ * only configured shard, or {@code employee.api.base-url} when sharding is off. Enabling it with more than one shard
+ * fails at startup rather than tracking one shard's versions and leaving the others' changes unseen.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.api.change-feed.enabled", havingValue = "true")
+public class RosterChangeFeedSubscriber implements SmartLifecycle {
+
+    static final String EMPLOYEES_CACHE = "employees";
+    private static final int RECENT_CHANGES = 4096;
+
+    private final String baseUrl;
+    private final EmployeeRoster roster;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final ChangeFeedProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Deque<EmployeeChangeDto> recentChanges = new ArrayDeque<>();
+    private final HttpClient httpClient =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private volatile boolean running;
+    private volatile long lastVersion = -1L;
+    private volatile Stream<String> currentStream;
+    private Thread worker;
+
+    public RosterChangeFeedSubscriber(
+            @Value("${employee.api.base-url:http://localhost:8112}") String baseUrl,
+            EmployeeRoster roster,
+            CacheManager cacheManager,
+            ObjectMapper objectMapper,
+            ChangeFeedProperties properties,
+            ShardingProperties sharding,
+            ApplicationEventPublisher eventPublisher) {
+        if (sharding.baseUrls().size() > 1) {
+            throw new IllegalStateException("employee.api.change-feed.enabled is not supported with "
+                    + sharding.baseUrls().size() + " shards: the feed can only follow a single upstream change log");
+        }
+        this.baseUrl = sharding.baseUrls().isEmpty()
+                ? baseUrl
+                : sharding.baseUrls().get(0).get(0);
+        this.roster = roster;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        worker = new Thread(this::run, "roster-change-feed");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        Stream<String> stream = currentStream;
+        if (stream != null) {
+            stream.close();
+        }
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long lastVersion() {
+        return lastVersion;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    private void run() {
+        long delayMillis = properties.initialReconnectDelay().toMillis();
+        while (running) {
+            try {
+                if (consume()) {
+                    delayMillis = properties.initialReconnectDelay().toMillis();
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Change stream disconnected: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delayMillis =
+                    Math.min(delayMillis * 2, properties.maxReconnectDelay().toMillis());
+        }
+    }
+
+    private boolean consume() throws IOException, InterruptedException {
+        String query = lastVersion >= 0 ? "?since=" + lastVersion : "";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/employee/changes/stream" + query))
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .GET()
+                .build();
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            log.warn("Change stream refused with status {}", response.statusCode());
+            response.body().close();
+            return false;
+        }
+
+        log.info("Connected to change stream (since={})", lastVersion);
+        try (Stream<String> lines = response.body()) {
+            currentStream = lines;
+            String event = null;
+            StringBuilder data = new StringBuilder();
+            for (Iterator<String> it = lines.iterator(); running && it.hasNext(); ) {
+                String line = it.next();
+                if (line.isEmpty()) {
+                    if (event != null) {
+                        handleEvent(event, data.toString());
+                    }
+                    event = null;
+                    data.setLength(0);
+                } else if (line.startsWith("event:")) {
+                    event = line.substring("event:".length()).trim();
+                } else if (line.startsWith("data:")) {
+                    data.append(line.substring("data:".length()));
+                }
+            }
+        } finally {
+            currentStream = null;
+        }
+        return true;
+    }
+
+    /**
+     * Publishes a roster fetched from upstream at {@code version} without losing changes the feed has applied since:
+     * those are replayed on top of it first. Returns empty when the fetched roster is older than the changes still
+     * remembered, for example because the feed was reset while it was being fetched, so the caller should fetch again.
+     * A roster of unknown version is published as fetched.
+     */
+    public synchronized Optional<RosterSnapshot> publishFetched(long version, List<Employee> employees) {
+        if (version < 0 || lastVersion < 0 || version >= lastVersion) {
+            return Optional.of(roster.publish(employees));
+        }
+        EmployeeChangeDto oldest = recentChanges.peekFirst();
+        if (oldest == null || oldest.getVersion() > version + 1) {
+            return Optional.empty();
+        }
+
+        Map<UUID, Employee> byId = new LinkedHashMap<>();
+        employees.forEach(employee -> byId.put(employee.getId(), employee));
+        int replayed = 0;
+        for (EmployeeChangeDto change : recentChanges) {
+            if (change.getVersion() <= version) {
+                continue;
+            }
+            UUID id = change.getEmployee().getId();
+            byId.remove(id);
+            if (EmployeeChangeDto.CREATED.equals(change.getType())) {
+                byId.put(id, change.getEmployee().toEmployee());
+            }
+            replayed++;
+        }
+        log.debug("Replayed {} feed changes onto roster fetched at version {}", replayed, version);
+        return Optional.of(roster.publish(new ArrayList<>(byId.values())));
+    }
+
+    synchronized void handleEvent(String event, String data) throws IOException {
+        switch (event) {
+            case "sync" -> {
+                long version = objectMapper.readTree(data).path("version").asLong();
+                if (lastVersion < 0) {
+                    invalidate("subscribed at version " + version);
+                }
+                lastVersion = version;
+            }
+            case "reset" -> {
+                JsonNode payload = objectMapper.readTree(data);
+                invalidate("server change log no longer covers version " + lastVersion);
+                lastVersion = payload.path("version").asLong();
+            }
+            case "change" -> {
+                EmployeeChangeDto change = objectMapper.readValue(data, EmployeeChangeDto.class);
+                apply(change);
+                lastVersion = change.getVersion();
+            }
+            default -> log.debug("Ignoring change stream event '{}'", event);
+        }
+    }
+
+    private void apply(EmployeeChangeDto change) {
+        if (change.getEmployee() == null || change.getEmployee().getId() == null) {
+            return;
+        }
+        UUID id = change.getEmployee().getId();
+        if (EmployeeChangeDto.CREATED.equals(change.getType())) {
+            roster.add(change.getEmployee().toEmployee());
+        } else if (EmployeeChangeDto.DELETED.equals(change.getType())) {
+            roster.remove(id);
+        } else {
+            return;
+        }
+        recentChanges.addLast(change);
+        if (recentChanges.size() > RECENT_CHANGES) {
+            recentChanges.removeFirst();
+        }
+        log.debug("Applied {} of employee {} at version {}", change.getType(), id, change.getVersion());
+
+        // Always re-cache the roster, so a list cached by a fetch that raced this change is corrected.
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        if (cache != null) {
+            roster.current().ifPresent(snapshot -> cache.put(SimpleKey.EMPTY, snapshot.employees()));
+        }
+    }
+
+    private void invalidate(String reason) {
+        log.info("Dropping cached roster: {}", reason);
+        recentChanges.clear();
+        roster.clear();
+        Cache cache = cacheManager.getCache(EMPLOYEES_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+        eventPublisher.publishEvent(new RosterInvalidatedEvent(reason));
+    }
+}
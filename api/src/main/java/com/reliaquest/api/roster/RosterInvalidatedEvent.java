@@ -0,0 +1,6 @@
+package com.reliaquest.api.roster;
+
+/**
+ * Published after the cached roster has been dropped because it could no longer be kept in step with upstream.
+ */
+public record RosterInvalidatedEvent(String reason) {}
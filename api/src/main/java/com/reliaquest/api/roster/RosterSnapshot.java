@@ -0,0 +1,190 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned view of the employee roster. Derived aggregates and indexes are built lazily, at most once per
+ * snapshot, and carried forward incrementally when a create or delete produces the next version. {@code loadedAt} is
+ * when the underlying full roster was read from upstream; incremental changes keep it.
+ */
+public final class RosterSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<Employee> employees;
+    private final Map<UUID, Employee> byId;
+
+    private volatile SalaryStatistics salaryStatistics;
+    private volatile SalaryIndex salaryIndex;
+    private volatile NamePrefixIndex namePrefixIndex;
+    private volatile AttributeBitmapIndex attributeBitmapIndex;
+
+    private RosterSnapshot(long version, Instant loadedAt, List<Employee> employees, Map<UUID, Employee> byId) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.employees = employees;
+        this.byId = byId;
+    }
+
+    public static RosterSnapshot of(long version, List<Employee> employees) {
+        return of(version, employees, Instant.now());
+    }
+
+    public static RosterSnapshot of(long version, List<Employee> employees, Instant loadedAt) {
+        Map<UUID, Employee> byId = new HashMap<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            if (employee.getId() != null) {
+                byId.put(employee.getId(), employee);
+            }
+        }
+        return new RosterSnapshot(version, loadedAt, List.copyOf(employees), Collections.unmodifiableMap(byId));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public SalaryStatistics salaryStatistics() {
+        SalaryStatistics statistics = salaryStatistics;
+        if (statistics == null) {
+            synchronized (this) {
+                statistics = salaryStatistics;
+                if (statistics == null) {
+                    statistics = SalaryStatistics.of(employees);
+                    salaryStatistics = statistics;
+                }
+            }
+        }
+        return statistics;
+    }
+
+    public SalaryIndex salaryIndex() {
+        SalaryIndex index = salaryIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = salaryIndex;
+                if (index == null) {
+                    index = SalaryIndex.of(employees);
+                    salaryIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public NamePrefixIndex namePrefixIndex() {
+        NamePrefixIndex index = namePrefixIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = namePrefixIndex;
+                if (index == null) {
+                    index = NamePrefixIndex.of(employees);
+                    namePrefixIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public AttributeBitmapIndex attributeBitmapIndex() {
+        AttributeBitmapIndex index = attributeBitmapIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = attributeBitmapIndex;
+                if (index == null) {
+                    index = AttributeBitmapIndex.of(employees);
+                    attributeBitmapIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    RosterSnapshot withAdded(Employee employee) {
+        RosterSnapshot base = byId.containsKey(employee.getId()) ? withRemoved(employee.getId()) : this;
+
+        List<Employee> nextEmployees = new ArrayList<>(base.employees.size() + 1);
+        nextEmployees.addAll(base.employees);
+        nextEmployees.add(employee);
+        Map<UUID, Employee> nextById = new HashMap<>(base.byId);
+        nextById.put(employee.getId(), employee);
+
+        RosterSnapshot next = new RosterSnapshot(
+                version + 1,
+                loadedAt,
+                Collections.unmodifiableList(nextEmployees),
+                Collections.unmodifiableMap(nextById));
+        if (base.salaryStatistics != null) {
+            next.salaryStatistics = base.salaryStatistics.plus(employee);
+        }
+        if (base.salaryIndex != null) {
+            next.salaryIndex = base.salaryIndex.plus(employee);
+        }
+        if (base.namePrefixIndex != null) {
+            next.namePrefixIndex = base.namePrefixIndex.plus(employee);
+        }
+        if (base.attributeBitmapIndex != null) {
+            next.attributeBitmapIndex = base.attributeBitmapIndex.plus(employee);
+        }
+        return next;
+    }
+
+    RosterSnapshot withRemoved(UUID id) {
+        Employee removed = byId.get(id);
+        if (removed == null) {
+            return this;
+        }
+
+        List<Employee> nextEmployees = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            if (!id.equals(employee.getId())) {
+                nextEmployees.add(employee);
+            }
+        }
+        Map<UUID, Employee> nextById = new HashMap<>(byId);
+        nextById.remove(id);
+
+        RosterSnapshot next = new RosterSnapshot(
+                version + 1,
+                loadedAt,
+                Collections.unmodifiableList(nextEmployees),
+                Collections.unmodifiableMap(nextById));
+        if (salaryStatistics != null) {
+            next.salaryStatistics = salaryStatistics.minus(removed);
+        }
+        if (salaryIndex != null) {
+            next.salaryIndex = salaryIndex.minus(removed);
+        }
+        if (namePrefixIndex != null) {
+            next.namePrefixIndex = namePrefixIndex.minus(removed);
+        }
+        if (attributeBitmapIndex != null) {
+            next.attributeBitmapIndex = attributeBitmapIndex.minus(removed);
+        }
+        return next;
+    }
+}
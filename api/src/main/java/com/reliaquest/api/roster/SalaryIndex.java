@@ -0,0 +1,109 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Employees ordered by salary, highest first, with a parallel primitive key array for binary search. Ties keep
+ * roster order. Top-N pages, rank and salary-range lookups cost {@code O(log n + k)}.
+ */
+public final class SalaryIndex {
+
+    private final Employee[] ordered;
+    // Negated salaries, so the descending order above is ascending here.
+    private final int[] keys;
+
+    private SalaryIndex(Employee[] ordered, int[] keys) {
+        this.ordered = ordered;
+        this.keys = keys;
+    }
+
+    public static SalaryIndex of(List<Employee> employees) {
+        Employee[] ordered = employees.stream()
+                .filter(employee -> employee.getSalary() != null)
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .toArray(Employee[]::new);
+        int[] keys = new int[ordered.length];
+        for (int i = 0; i < ordered.length; i++) {
+            keys[i] = -ordered[i].getSalary();
+        }
+        return new SalaryIndex(ordered, keys);
+    }
+
+    public SalaryIndex plus(Employee employee) {
+        if (employee.getSalary() == null) {
+            return this;
+        }
+        int key = -employee.getSalary();
+        int index = SortedInts.upperBound(keys, key);
+
+        Employee[] nextOrdered = new Employee[ordered.length + 1];
+        System.arraycopy(ordered, 0, nextOrdered, 0, index);
+        nextOrdered[index] = employee;
+        System.arraycopy(ordered, index, nextOrdered, index + 1, ordered.length - index);
+        return new SalaryIndex(nextOrdered, SortedInts.insert(keys, key));
+    }
+
+    public SalaryIndex minus(Employee employee) {
+        int index = indexOf(employee);
+        if (index < 0) {
+            return this;
+        }
+        Employee[] nextOrdered = new Employee[ordered.length - 1];
+        System.arraycopy(ordered, 0, nextOrdered, 0, index);
+        System.arraycopy(ordered, index + 1, nextOrdered, index, ordered.length - index - 1);
+        int[] nextKeys = new int[keys.length - 1];
+        System.arraycopy(keys, 0, nextKeys, 0, index);
+        System.arraycopy(keys, index + 1, nextKeys, index, keys.length - index - 1);
+        return new SalaryIndex(nextOrdered, nextKeys);
+    }
+
+    public int size() {
+        return ordered.length;
+    }
+
+    public List<Employee> top(int limit, int offset) {
+        if (offset >= ordered.length) {
+            return List.of();
+        }
+        int end = (int) Math.min((long) offset + limit, ordered.length);
+        return List.of(Arrays.copyOfRange(ordered, offset, end));
+    }
+
+    /** Competition rank: one more than the number of employees earning strictly more. */
+    public int rankOf(int salary) {
+        return SortedInts.lowerBound(keys, -salary) + 1;
+    }
+
+    /** Employees earning within {@code [minSalary, maxSalary]}, highest first. */
+    public List<Employee> range(int minSalary, int maxSalary) {
+        if (minSalary > maxSalary) {
+            return List.of();
+        }
+        int from = SortedInts.lowerBound(keys, -maxSalary);
+        int to = SortedInts.upperBound(keys, -minSalary);
+        List<Employee> result = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            result.add(ordered[i]);
+        }
+        return result;
+    }
+
+    private int indexOf(Employee employee) {
+        if (employee.getSalary() == null) {
+            return -1;
+        }
+        int key = -employee.getSalary();
+        UUID id = employee.getId();
+        for (int i = SortedInts.lowerBound(keys, key); i < keys.length && keys[i] == key; i++) {
+            if (ordered[i].getId() != null && ordered[i].getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.api.roster;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.TitleSalaryStats;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Salary aggregates for one {@link RosterSnapshot}. Built in a single pass over the roster into primitive sorted
+ * arrays (overall and per title), so percentile, min/max and per-title queries never touch the employee objects
+ * again. Creates and deletes derive a new instance with {@link #plus(Employee)} / {@link #minus(Employee)} instead
+ * of rebuilding from scratch.
+ */
+public final class SalaryStatistics {
+
+    private static final SalaryStatistics EMPTY = new SalaryStatistics(new int[0], 0L, Map.of());
+
+    private final int[] sorted;
+    private final long sum;
+    private final Map<String, TitleSalaries> byTitle;
+
+    private SalaryStatistics(int[] sorted, long sum, Map<String, TitleSalaries> byTitle) {
+        this.sorted = sorted;
+        this.sum = sum;
+        this.byTitle = byTitle;
+    }
+
+    public static SalaryStatistics of(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] salaries = new int[employees.size()];
+        int count = 0;
+        long sum = 0L;
+        Map<String, TitleAccumulator> titles = new HashMap<>();
+        for (Employee employee : employees) {
+            Integer salary = employee.getSalary();
+            if (salary == null) {
+                continue;
+            }
+            salaries[count++] = salary;
+            sum += salary;
+            if (employee.getTitle() != null) {
+                titles.computeIfAbsent(employee.getTitle(), ignored -> new TitleAccumulator())
+                        .add(salary);
+            }
+        }
+
+        int[] sorted = Arrays.copyOf(salaries, count);
+        Arrays.sort(sorted);
+        Map<String, TitleSalaries> byTitle = new HashMap<>(titles.size() * 2);
+        titles.forEach((title, accumulator) -> byTitle.put(title, accumulator.toTitleSalaries()));
+        return new SalaryStatistics(sorted, sum, Collections.unmodifiableMap(byTitle));
+    }
+
+    public SalaryStatistics plus(Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null) {
+            return this;
+        }
+        Map<String, TitleSalaries> titles = byTitle;
+        if (employee.getTitle() != null) {
+            titles = new HashMap<>(byTitle);
+            titles.merge(employee.getTitle(), TitleSalaries.of(salary), (current, ignored) -> current.plus(salary));
+            titles = Collections.unmodifiableMap(titles);
+        }
+        return new SalaryStatistics(SortedInts.insert(sorted, salary), sum + salary, titles);
+    }
+
+    public SalaryStatistics minus(Employee employee) {
+        Integer salary = employee.getSalary();
+        if (salary == null || Arrays.binarySearch(sorted, salary) < 0) {
+            return this;
+        }
+        Map<String, TitleSalaries> titles = byTitle;
+        TitleSalaries current = employee.getTitle() == null ? null : byTitle.get(employee.getTitle());
+        if (current != null) {
+            titles = new HashMap<>(byTitle);
+            TitleSalaries remaining = current.minus(salary);
+            if (remaining.salaries.length == 0) {
+                titles.remove(employee.getTitle());
+            } else {
+                titles.put(employee.getTitle(), remaining);
+            }
+            titles = Collections.unmodifiableMap(titles);
+        }
+        return new SalaryStatistics(SortedInts.remove(sorted, salary), sum - salary, titles);
+    }
+
+    public int count() {
+        return sorted.length;
+    }
+
+    public int max() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    public int min() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    public double mean() {
+        return sorted.length == 0 ? 0.0 : (double) sum / sorted.length;
+    }
+
+    /** Nearest-rank percentile, {@code percentile} in {@code (0, 100]}. */
+    public int percentile(double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /** Equal-width buckets spanning {@code [min, max]}; each bucket costs two binary searches. */
+    public List<SalaryHistogramBucket> histogram(int buckets) {
+        if (sorted.length == 0) {
+            return List.of();
+        }
+        long span = (long) max() - min() + 1;
+        int width = (int) Math.max(1L, (span + buckets - 1) / buckets);
+
+        List<SalaryHistogramBucket> histogram = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            long lower = (long) min() + (long) bucket * width;
+            if (lower > max()) {
+                break;
+            }
+            int upper = (int) Math.min((long) max(), lower + width - 1);
+            int count = SortedInts.upperBound(sorted, upper) - SortedInts.lowerBound(sorted, (int) lower);
+            histogram.add(new SalaryHistogramBucket((int) lower, upper, count));
+        }
+        return histogram;
+    }
+
+    public List<TitleSalaryStats> byTitle() {
+        Map<String, TitleSalaries> ordered = new TreeMap<>(byTitle);
+        List<TitleSalaryStats> stats = new ArrayList<>(ordered.size());
+        ordered.forEach((title, salaries) -> stats.add(salaries.toStats(title)));
+        return stats;
+    }
+
+    private static final class TitleSalaries {
+
+        private final int[] salaries;
+        private final long sum;
+
+        private TitleSalaries(int[] salaries, long sum) {
+            this.salaries = salaries;
+            this.sum = sum;
+        }
+
+        static TitleSalaries of(int salary) {
+            return new TitleSalaries(new int[] {salary}, salary);
+        }
+
+        TitleSalaries plus(int salary) {
+            return new TitleSalaries(SortedInts.insert(salaries, salary), sum + salary);
+        }
+
+        TitleSalaries minus(int salary) {
+            return new TitleSalaries(SortedInts.remove(salaries, salary), sum - salary);
+        }
+
+        TitleSalaryStats toStats(String title) {
+            return new TitleSalaryStats(
+                    title, salaries.length, (double) sum / salaries.length, salaries[0], salaries[salaries.length - 1]);
+        }
+    }
+
+    private static final class TitleAccumulator {
+
+        private int[] salaries = new int[8];
+        private int size;
+        private long sum;
+
+        void add(int salary) {
+            if (size == salaries.length) {
+                salaries = Arrays.copyOf(salaries, size * 2);
+            }
+            salaries[size++] = salary;
+            sum += salary;
+        }
+
+        TitleSalaries toTitleSalaries() {
+            int[] sorted = Arrays.copyOf(salaries, size);
+            Arrays.sort(sorted);
+            return new TitleSalaries(sorted, sum);
+        }
+    }
+}
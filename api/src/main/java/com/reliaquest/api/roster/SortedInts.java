@@ -0,0 +1,62 @@
+package com.reliaquest.api.roster;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write helpers for ascending {@code int[]} arrays. Roster writes are bounded by the upstream rate limit, so
+ * an {@code O(n)} array copy per write is cheap next to re-sorting on every read.
+ */
+final class SortedInts {
+
+    private SortedInts() {}
+
+    static int[] insert(int[] sorted, int value) {
+        int index = upperBound(sorted, value);
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(sorted, index, result, index + 1, sorted.length - index);
+        return result;
+    }
+
+    static int[] remove(int[] sorted, int value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return sorted;
+        }
+        int[] result = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+        return result;
+    }
+
+    /** First index whose value is {@code >= value}. */
+    static int lowerBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First index whose value is {@code > value}. */
+    static int upperBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
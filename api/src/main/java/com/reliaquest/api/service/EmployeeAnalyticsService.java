@@ -0,0 +1,47 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.TitleSalaryStats;
+import com.reliaquest.api.roster.SalaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeAnalyticsService {
+
+    private final EmployeeService employeeService;
+
+    public Map<String, Integer> getSalaryPercentiles(List<Double> percentiles) {
+        SalaryStatistics statistics = salaryStatistics();
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Double percentile : percentiles) {
+            result.put(label(percentile), statistics.percentile(percentile));
+        }
+        return result;
+    }
+
+    public List<SalaryHistogramBucket> getSalaryHistogram(int buckets) {
+        return salaryStatistics().histogram(buckets);
+    }
+
+    public List<TitleSalaryStats> getSalaryStatsByTitle() {
+        return salaryStatistics().byTitle();
+    }
+
+    private SalaryStatistics salaryStatistics() {
+        return employeeService.getRosterSnapshot().salaryStatistics();
+    }
+
+    private static String label(double percentile) {
+        if (percentile == Math.rint(percentile)) {
+            return "p" + (long) percentile;
+        }
+        return "p" + percentile;
+    }
+}
@@ -0,0 +1,54 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.roster.NamePrefixIndex;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.roster.SalaryIndex;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeQueryService {
+
+    private final EmployeeService employeeService;
+
+    public List<Employee> getTopEarners(int limit, int offset) {
+        return employeeService.getRosterSnapshot().salaryIndex().top(limit, offset);
+    }
+
+    public SalaryRank getSalaryRank(String id) {
+        RosterSnapshot snapshot = employeeService.getRosterSnapshot();
+        Employee employee = snapshot.findById(UUID.fromString(id))
+                .filter(found -> found.getSalary() != null)
+                .orElseThrow(() -> {
+                    log.warn("Employee {} not found in roster snapshot v{}", id, snapshot.version());
+                    return new IllegalArgumentException("Employee not found with id: " + id);
+                });
+        SalaryIndex index = snapshot.salaryIndex();
+        return new SalaryRank(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                index.rankOf(employee.getSalary()),
+                index.size());
+    }
+
+    public List<Employee> getEmployeesInSalaryRange(int minSalary, int maxSalary) {
+        return employeeService.getRosterSnapshot().salaryIndex().range(minSalary, maxSalary);
+    }
+
+    public List<Employee> autocompleteByName(String prefix, int limit, NamePrefixIndex.RankBy rankBy) {
+        return employeeService.getRosterSnapshot().namePrefixIndex().complete(prefix, limit, rankBy);
+    }
+
+    public List<Employee> filterEmployees(EmployeeFilter filter) {
+        return employeeService.getRosterSnapshot().attributeBitmapIndex().filter(filter);
+    }
+}
@@ -5,75 +5,186 @@ import com.reliaquest.api.dto.CreateEmployeeInput;
 import com.reliaquest.api.dto.EmployeeApiResponse;
 import com.reliaquest.api.dto.MockEmployeeDto;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.peer.PeerBroadcaster;
+import com.reliaquest.api.peer.PeerSnapshotClient;
+import com.reliaquest.api.peer.RosterSnapshotCodec;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.NameSearchCache;
+import com.reliaquest.api.roster.RosterChangeFeedSubscriber;
+import com.reliaquest.api.roster.RosterSnapshot;
+import com.reliaquest.api.upstream.UpstreamCallType;
+import com.reliaquest.api.upstream.UpstreamGateway;
+import com.reliaquest.api.upstream.UpstreamReplicaSet;
+import com.reliaquest.api.upstream.UpstreamShards;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Recover;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClient;
 
 @Service
 @Slf4j
 public class EmployeeService {
 
-    private final RestClient restClient;
-    private final EmployeeService self;
+    static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+    private static final long UNKNOWN_VERSION = -1L;
+    private static final int MAX_ROSTER_FETCHES = 2;
+
+    private final UpstreamShards shards;
+    private final ObjectProvider<EmployeeService> selfProvider;
+    private final UpstreamGateway upstreamGateway;
+    private final EmployeeRoster roster;
+    private final PeerBroadcaster peers;
+    private final PeerSnapshotClient peerSnapshots;
+    private final NameSearchCache searchCache;
+    private final ObjectProvider<RosterChangeFeedSubscriber> changeFeedProvider;
+
+    /*
+     * The proxied bean, resolved on first use, so calls to ourselves go through caching and retry. Looked up through an
+     * ObjectProvider rather than a @Lazy proxy, whose class would collide with the AOP proxy under Spring AOT.
+     */
+    private EmployeeService self;
 
     public EmployeeService(
-            @Value("${employee.api.base-url:http://localhost:8112}") String baseUrl, @Lazy EmployeeService self) {
-        this.restClient = RestClient.builder().baseUrl(baseUrl).build();
-        this.self = self;
+            UpstreamShards shards,
+            ObjectProvider<EmployeeService> selfProvider,
+            UpstreamGateway upstreamGateway,
+            EmployeeRoster roster,
+            PeerBroadcaster peers,
+            PeerSnapshotClient peerSnapshots,
+            NameSearchCache searchCache,
+            ObjectProvider<RosterChangeFeedSubscriber> changeFeedProvider) {
+        this.shards = shards;
+        this.selfProvider = selfProvider;
+        this.upstreamGateway = upstreamGateway;
+        this.roster = roster;
+        this.peers = peers;
+        this.peerSnapshots = peerSnapshots;
+        this.searchCache = searchCache;
+        this.changeFeedProvider = changeFeedProvider;
+    }
+
+    private EmployeeService self() {
+        if (self == null) {
+            self = selfProvider.getObject();
+        }
+        return self;
     }
 
     @RetryableApiCall
     @Cacheable("employees")
     public List<Employee> getAllEmployees() {
-        log.info("Attempting to fetch all employees from external API");
+        Optional<RosterSnapshotCodec.Decoded> fromPeer = peerSnapshots.fetch(peers.origin());
+        if (fromPeer.isPresent()) {
+            roster.publish(fromPeer.get().employees(), fromPeer.get().loadedAt());
+            return fromPeer.get().employees();
+        }
+        log.debug("Attempting to fetch all employees from external API");
 
         try {
-            EmployeeApiResponse<List<MockEmployeeDto>> response = restClient
-                    .get()
-                    .uri("/api/v1/employee")
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<EmployeeApiResponse<List<MockEmployeeDto>>>() {});
-
-            if (response == null || response.getData() == null) {
-                log.warn("Received null response or data when fetching employees");
-                return List.of();
+            RosterChangeFeedSubscriber changeFeed = changeFeedProvider.getIfAvailable();
+            for (int attempt = 1; ; attempt++) {
+                List<ShardRoster> perShard = shards.scatter(this::fetchShardEmployees);
+                List<Employee> employees = perShard.size() == 1
+                        ? perShard.get(0).employees()
+                        : perShard.stream()
+                                .flatMap(shard -> shard.employees().stream())
+                                .toList();
+                // Only a single upstream has one change log the fetched version can be compared against.
+                long version = perShard.size() == 1 ? perShard.get(0).version() : UNKNOWN_VERSION;
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Successfully fetched {} employees at version {}", employees.size(), version);
+                }
+                if (changeFeed == null) {
+                    return roster.publish(employees).employees();
+                }
+                Optional<RosterSnapshot> published = changeFeed.publishFetched(version, employees);
+                if (published.isPresent()) {
+                    return published.get().employees();
+                }
+                if (attempt >= MAX_ROSTER_FETCHES) {
+                    log.warn(
+                            "Publishing roster at version {} that the change feed could not bring up to date", version);
+                    return roster.publish(employees).employees();
+                }
+                log.info("Fetched roster at version {} is behind the change feed; fetching again", version);
             }
-
-            List<Employee> employees =
-                    response.getData().stream().map(MockEmployeeDto::toEmployee).toList();
-
-            log.info("Successfully fetched {} employees", employees.size());
-            return employees;
         } catch (HttpClientErrorException.TooManyRequests e) {
             log.warn("Rate limit hit (429) - retry will be attempted");
             throw e;
         }
     }
 
+    private ShardRoster fetchShardEmployees(UpstreamReplicaSet shard) {
+        ResponseEntity<EmployeeApiResponse<List<MockEmployeeDto>>> response = upstreamGateway.execute(
+                UpstreamCallType.READ,
+                () -> shard.call(client -> client.get()
+                        .uri("/api/v1/employee")
+                        .retrieve()
+                        .toEntity(new ParameterizedTypeReference<EmployeeApiResponse<List<MockEmployeeDto>>>() {})));
+
+        long version =
+                parseVersion(response == null ? null : response.getHeaders().getFirst(ROSTER_VERSION_HEADER));
+        if (response == null || response.getBody() == null || response.getBody().getData() == null) {
+            log.warn("Received null response or data when fetching employees");
+            return new ShardRoster(version, List.of());
+        }
+        return new ShardRoster(
+                version,
+                response.getBody().getData().stream()
+                        .map(MockEmployeeDto::toEmployee)
+                        .toList());
+    }
+
+    private static long parseVersion(String header) {
+        if (header == null) {
+            return UNKNOWN_VERSION;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    /**
+     * One shard's roster and the change log version it was read at, or {@link #UNKNOWN_VERSION}.
+     */
+    private record ShardRoster(long version, List<Employee> employees) {}
+
     @Recover
     public List<Employee> recoverGetAllEmployees(HttpClientErrorException.TooManyRequests e) {
         log.error("Failed to fetch employees after all retry attempts - rate limit still active");
         throw e;
     }
 
+    public RosterSnapshot getRosterSnapshot() {
+        return roster.current().orElseGet(() -> {
+            List<Employee> employees = self().getAllEmployees();
+            return roster.current().orElseGet(() -> roster.publish(employees));
+        });
+    }
+
     public List<Employee> searchEmployeesByName(String searchString) {
-        log.info("Searching employees by name: {}", searchString);
-        return self.getAllEmployees().stream()
-                .filter(emp -> emp.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .toList();
+        log.debug("Searching employees by name: {}", searchString);
+        RosterSnapshot snapshot = getRosterSnapshot();
+        return searchCache.get(snapshot, searchString, fragment -> snapshot.employees().stream()
+                .filter(emp -> emp.getName().toLowerCase().contains(fragment))
+                .toList());
     }
 
     public Employee getEmployeeById(String id) {
-        log.info("Fetching employee by ID: {}", id);
+        log.debug("Fetching employee by ID: {}", id);
 
         try {
             return fetchEmployeeByIdFromApi(id);
@@ -84,11 +195,11 @@ public class EmployeeService {
     }
 
     private Employee fetchEmployeeByIdFromApi(String id) {
-        EmployeeApiResponse<MockEmployeeDto> response = restClient
-                .get()
-                .uri("/api/v1/employee/{id}", id)
-                .retrieve()
-                .body(new ParameterizedTypeReference<EmployeeApiResponse<MockEmployeeDto>>() {});
+        EmployeeApiResponse<MockEmployeeDto> response = upstreamGateway.execute(
+                UpstreamCallType.LOOKUP, () -> shards.owner(id).call(client -> client.get()
+                        .uri("/api/v1/employee/{id}", id)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<EmployeeApiResponse<MockEmployeeDto>>() {})));
 
         if (response == null || response.getData() == null) {
             log.warn("Received null response for employee ID: {}", id);
@@ -96,13 +207,15 @@ public class EmployeeService {
         }
 
         Employee employee = response.getData().toEmployee();
-        log.info("Successfully fetched employee: {}", employee.getName());
+        log.debug("Successfully fetched employee {}", id);
         return employee;
     }
 
     private Employee findEmployeeInCache(String id) {
-        List<Employee> cachedEmployees = self.getAllEmployees();
-        log.info("Searching for employee {} in cache with {} employees", id, cachedEmployees.size());
+        List<Employee> cachedEmployees = self().getAllEmployees();
+        if (log.isDebugEnabled()) {
+            log.debug("Searching for employee {} in cache with {} employees", id, cachedEmployees.size());
+        }
 
         return cachedEmployees.stream()
                 .filter(emp -> emp.getId().toString().equals(id))
@@ -114,23 +227,18 @@ public class EmployeeService {
     }
 
     public Integer getHighestSalaryOfEmployees() {
-        return self.getAllEmployees().stream()
-                .map(Employee::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        return getRosterSnapshot().salaryStatistics().max();
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return self.getAllEmployees().stream()
-                .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
-                .limit(10)
+        return getRosterSnapshot().salaryIndex().top(10, 0).stream()
                 .map(Employee::getName)
                 .toList();
     }
 
     @RetryableApiCall
     public Employee createEmployee(CreateEmployeeInput input) {
-        log.info("Attempting to create employee with name: {}", input.getName());
+        log.debug("Attempting to create employee with name: {}", input.getName());
 
         if (input.getAge() != null) {
             if (input.getAge() < 16) {
@@ -144,12 +252,12 @@ public class EmployeeService {
         }
 
         try {
-            EmployeeApiResponse<MockEmployeeDto> response = restClient
-                    .post()
-                    .uri("/api/v1/employee")
-                    .body(input)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<EmployeeApiResponse<MockEmployeeDto>>() {});
+            EmployeeApiResponse<MockEmployeeDto> response = upstreamGateway.execute(
+                    UpstreamCallType.WRITE, () -> shards.nextForCreate().write(client -> client.post()
+                            .uri("/api/v1/employee")
+                            .body(input)
+                            .retrieve()
+                            .body(new ParameterizedTypeReference<EmployeeApiResponse<MockEmployeeDto>>() {})));
 
             if (response == null || response.getData() == null) {
                 log.error("Failed to create employee - null response");
@@ -157,8 +265,10 @@ public class EmployeeService {
             }
 
             Employee createdEmployee = response.getData().toEmployee();
-            log.info("Successfully created employee with id: {}", createdEmployee.getId());
-            self.evictEmployeeCache();
+            log.debug("Successfully created employee with id: {}", createdEmployee.getId());
+            roster.add(createdEmployee);
+            refreshCachedEmployees();
+            peers.created(createdEmployee);
             return createdEmployee;
         } catch (HttpClientErrorException.TooManyRequests e) {
             log.warn("Rate limit hit (429) while creating employee - retry will be attempted");
@@ -173,14 +283,14 @@ public class EmployeeService {
     }
 
     public String deleteEmployeeById(String id) {
-        log.info("Attempting to delete employee with id: {}", id);
+        log.debug("Attempting to delete employee with id: {}", id);
 
         try {
-            EmployeeApiResponse<MockEmployeeDto> response = restClient
-                    .get()
-                    .uri("/api/v1/employee/{id}", id)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<EmployeeApiResponse<MockEmployeeDto>>() {});
+            EmployeeApiResponse<MockEmployeeDto> response = upstreamGateway.execute(
+                    UpstreamCallType.LOOKUP, () -> shards.owner(id).call(client -> client.get()
+                            .uri("/api/v1/employee/{id}", id)
+                            .retrieve()
+                            .body(new ParameterizedTypeReference<EmployeeApiResponse<MockEmployeeDto>>() {})));
 
             if (response == null || response.getData() == null) {
                 log.warn("Employee does not exist with id: {}", id);
@@ -188,7 +298,7 @@ public class EmployeeService {
             }
 
             String employeeName = response.getData().toEmployee().getName();
-            return self.performDelete(employeeName, id);
+            return self().performDelete(employeeName, id);
         } catch (HttpClientErrorException.NotFound e) {
             log.warn("Employee does not exist with id: {}", id);
             throw new IllegalStateException("Employee does not exist", e);
@@ -200,14 +310,16 @@ public class EmployeeService {
         var deleteRequest = new HashMap<String, String>();
         deleteRequest.put("name", employeeName);
 
-        restClient
-                .method(org.springframework.http.HttpMethod.DELETE)
-                .uri("/api/v1/employee")
-                .body(deleteRequest)
-                .retrieve()
-                .toBodilessEntity();
-        log.info("Successfully deleted employee with id: {}", id);
-        self.evictEmployeeCache();
+        upstreamGateway.execute(UpstreamCallType.WRITE, () -> shards.owner(id)
+                .write(client -> client.method(org.springframework.http.HttpMethod.DELETE)
+                        .uri("/api/v1/employee")
+                        .body(deleteRequest)
+                        .retrieve()
+                        .toBodilessEntity()));
+        log.debug("Successfully deleted employee with id: {}", id);
+        roster.remove(UUID.fromString(id));
+        refreshCachedEmployees();
+        peers.deleted(UUID.fromString(id));
         return employeeName;
     }
 
@@ -217,6 +329,21 @@ public class EmployeeService {
         throw e;
     }
 
+    /**
+     * Replaces the cached employee list with the incrementally patched roster, so a local write does not force a full
+     * upstream refetch. Without a roster there is nothing to patch and the cache is dropped instead.
+     */
+    private void refreshCachedEmployees() {
+        roster.current()
+                .ifPresentOrElse(
+                        snapshot -> self().cacheEmployees(snapshot.employees()), () -> self().evictEmployeeCache());
+    }
+
+    @CachePut(value = "employees", key = "T(org.springframework.cache.interceptor.SimpleKey).EMPTY")
+    public List<Employee> cacheEmployees(List<Employee> employees) {
+        return employees;
+    }
+
     @CacheEvict(value = "employees", allEntries = true)
     void evictEmployeeCache() {
         log.info("Cache eviction - clearing employees cache");
@@ -0,0 +1,59 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.roster.RosterInvalidatedEvent;
+import com.reliaquest.api.upstream.UpstreamPriority;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the roster in the background after it has been invalidated, at {@link UpstreamPriority#BACKGROUND
+ * background} priority, so the reload never takes an upstream slot from a user request. Invalidations that arrive
+ * while a reload is pending are folded into it.
+ */
+@Slf4j
+@Component
+public class RosterReloader implements DisposableBean {
+
+    private final ObjectProvider<EmployeeService> employeeService;
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-reloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RosterReloader(ObjectProvider<EmployeeService> employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @EventListener
+    public void onInvalidated(RosterInvalidatedEvent event) {
+        if (pending.compareAndSet(false, true)) {
+            executor.execute(this::reload);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void reload() {
+        pending.set(false);
+        try {
+            int size = UpstreamPriority.runAs(
+                            UpstreamPriority.BACKGROUND,
+                            () -> employeeService.getObject().getAllEmployees())
+                    .size();
+            log.info("Reloaded roster of {} employees in the background", size);
+        } catch (RuntimeException e) {
+            log.warn("Background roster reload failed; the next read will load it: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caps the number of in-flight upstream calls of one {@link UpstreamCallType}. Callers beyond the concurrency limit
+ * wait in a bounded queue for at most {@code maxWait}; anything past that is rejected immediately so a saturated
+ * call type cannot hold request threads hostage.
+ */
+@Slf4j
+public class Bulkhead {
+
+    private final UpstreamCallType callType;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejected;
+
+    public Bulkhead(UpstreamCallType callType, BulkheadProperties.Limits limits, MeterRegistry meterRegistry) {
+        this.callType = callType;
+        this.maxConcurrent = limits.maxConcurrent();
+        this.maxQueue = limits.maxQueue();
+        this.maxWaitNanos = limits.maxWait().toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        String name = callType.name().toLowerCase();
+        this.rejected = Counter.builder("employee.upstream.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.bulkhead.active", this, Bulkhead::activeCount)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.bulkhead.queued", queued, AtomicInteger::get)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int activeCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public long rejectedCount() {
+        return (long) rejected.count();
+    }
+
+    private void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            throw reject("queue full");
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw reject("timed out waiting for a permit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted while waiting for a permit");
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    private UpstreamRejectedException reject(String reason) {
+        rejected.increment();
+        log.warn("Bulkhead {} rejected upstream call: {}", callType, reason);
+        return new UpstreamRejectedException(callType, reason);
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.upstream;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token bucket whose state lives in a small memory-mapped file, so every process on the host that maps the same file
+ * draws from one budget with no coordinating service. Like the mock server's limiter it keeps only the theoretical
+ * arrival time of the next request and advances it with a single compare-and-set, here through a {@link VarHandle}
+ * view of the mapped bytes. Times are wall-clock microseconds, the one clock all processes share.
+ *
+ * <p>A caller reserves its slot before waiting for it, so waiters across processes are served in reservation order. No
+ * process ever holds a lock on the file, so one that dies cannot wedge the others.
+ */
+@Slf4j
+public class SharedTokenBucket {
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final int FILE_SIZE = 64;
+    private static final int CAPACITY_OFFSET = 0;
+    private static final int INTERVAL_OFFSET = 8;
+    private static final int ARRIVAL_OFFSET = 16;
+
+    private final MappedByteBuffer state;
+    private final long emissionIntervalMicros;
+    private final long burstMicros;
+    private final LongSupplier clockMicros;
+
+    public SharedTokenBucket(Path file, int capacity, Duration refillPeriod) throws IOException {
+        this(file, capacity, refillPeriod, SharedTokenBucket::epochMicros);
+    }
+
+    SharedTokenBucket(Path file, int capacity, Duration refillPeriod, LongSupplier clockMicros) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (FileChannel channel =
+                FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.state = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+        }
+        this.emissionIntervalMicros = Math.max(1L, refillPeriod.toNanos() / 1_000L / capacity);
+        this.burstMicros = emissionIntervalMicros * capacity;
+        this.clockMicros = clockMicros;
+        agreeOn(CAPACITY_OFFSET, capacity, file);
+        agreeOn(INTERVAL_OFFSET, emissionIntervalMicros, file);
+    }
+
+    /**
+     * Reserves the next request slot if it is due within {@code maxWait}. Returns how long to wait before sending, in
+     * microseconds, or -1 without reserving anything if the wait would be longer.
+     */
+    public long reserve(Duration maxWait) {
+        long maxWaitMicros = maxWait.toNanos() / 1_000L;
+        while (true) {
+            long now = clockMicros.getAsLong();
+            long current = (long) LONGS.getVolatile(state, ARRIVAL_OFFSET);
+            long next = Math.max(current, now) + emissionIntervalMicros;
+            long wait = Math.max(0L, next - burstMicros - now);
+            if (wait > maxWaitMicros) {
+                return -1L;
+            }
+            if (LONGS.compareAndSet(state, ARRIVAL_OFFSET, current, next)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Microseconds until a request could be admitted without waiting.
+     */
+    public long waitMicros() {
+        long now = clockMicros.getAsLong();
+        long current = (long) LONGS.getVolatile(state, ARRIVAL_OFFSET);
+        return Math.max(0L, Math.max(current, now) + emissionIntervalMicros - burstMicros - now);
+    }
+
+    /**
+     * The first process to map the file records its settings; later ones warn if theirs differ, since the bucket can
+     * only enforce one limit.
+     */
+    private void agreeOn(int offset, long value, Path file) {
+        if (!LONGS.compareAndSet(state, offset, 0L, value)) {
+            long recorded = (long) LONGS.getVolatile(state, offset);
+            if (recorded != value) {
+                log.warn("Shared budget {} was created with different settings; limits may not be honoured", file);
+            }
+        }
+    }
+
+    private static long epochMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000L;
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.api.upstream;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Remembers the rate budget a replica last reported in its {@code X-RateLimit-Remaining} header. Installed as an
+ * interceptor on the replica's client, so every response updates it without touching the body.
+ */
+public class UpstreamBudget implements ClientHttpRequestInterceptor {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final long UNKNOWN = -1L;
+
+    private final long ttlNanos;
+
+    private volatile long remaining = UNKNOWN;
+    private volatile long sampledAt;
+
+    public UpstreamBudget(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        ClientHttpResponse response = execution.execute(request, body);
+        String header = response.getHeaders().getFirst(REMAINING_HEADER);
+        if (header != null) {
+            try {
+                record(Long.parseLong(header.trim()), System.nanoTime());
+            } catch (NumberFormatException e) {
+                // Not a budget we can use; keep the previous sample.
+            }
+        }
+        return response;
+    }
+
+    void record(long remaining, long now) {
+        this.sampledAt = now;
+        this.remaining = Math.max(0L, remaining);
+    }
+
+    /**
+     * The last reported budget, or {@link #UNKNOWN} if none was reported within the TTL.
+     */
+    long remaining(long now) {
+        long value = remaining;
+        return value == UNKNOWN || now - sampledAt > ttlNanos ? UNKNOWN : value;
+    }
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.upstream;
+
+public enum UpstreamCallType {
+    READ,
+    WRITE,
+    LOOKUP
+}
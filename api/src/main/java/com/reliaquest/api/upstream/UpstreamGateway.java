@@ -0,0 +1,40 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single entry point for every call made against the mock employee server. Each call is classified by
+ * {@link UpstreamCallType} and isolated in its own {@link Bulkhead}, so a burst of writes cannot starve reads. Calls
+ * admitted by their bulkhead then compete for upstream slots through the {@link UpstreamScheduler}.
+ */
+@Component
+public class UpstreamGateway {
+
+    private final Map<UpstreamCallType, Bulkhead> bulkheads = new EnumMap<>(UpstreamCallType.class);
+    private final UpstreamScheduler scheduler;
+
+    public UpstreamGateway(BulkheadProperties properties, UpstreamScheduler scheduler, MeterRegistry meterRegistry) {
+        this.scheduler = scheduler;
+        bulkheads.put(UpstreamCallType.READ, new Bulkhead(UpstreamCallType.READ, properties.read(), meterRegistry));
+        bulkheads.put(UpstreamCallType.WRITE, new Bulkhead(UpstreamCallType.WRITE, properties.write(), meterRegistry));
+        bulkheads.put(
+                UpstreamCallType.LOOKUP, new Bulkhead(UpstreamCallType.LOOKUP, properties.lookup(), meterRegistry));
+    }
+
+    public <T> T execute(UpstreamCallType callType, Supplier<T> call) {
+        return execute(callType, UpstreamPriority.of(callType), call);
+    }
+
+    public <T> T execute(UpstreamCallType callType, UpstreamPriority priority, Supplier<T> call) {
+        return bulkheads.get(callType).execute(() -> scheduler.execute(callType, priority, call));
+    }
+
+    public Bulkhead bulkhead(UpstreamCallType callType) {
+        return bulkheads.get(callType);
+    }
+}
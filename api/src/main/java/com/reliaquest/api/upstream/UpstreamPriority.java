@@ -0,0 +1,56 @@
+package com.reliaquest.api.upstream;
+
+import java.util.function.Supplier;
+
+public enum UpstreamPriority {
+    USER_CRITICAL,
+    USER,
+    BACKGROUND;
+
+    private static final ThreadLocal<UpstreamPriority> OVERRIDE = new ThreadLocal<>();
+
+    /**
+     * Runs {@code work} with every upstream call it makes on this thread, including calls scattered across shards,
+     * dispatched at {@code priority} instead of the call type's default. Used for work no user is waiting on, such as
+     * warm-up and roster reloads after an invalidation.
+     */
+    public static <T> T runAs(UpstreamPriority priority, Supplier<T> work) {
+        UpstreamPriority previous = OVERRIDE.get();
+        if (priority == null) {
+            OVERRIDE.remove();
+        } else {
+            OVERRIDE.set(priority);
+        }
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                OVERRIDE.remove();
+            } else {
+                OVERRIDE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The priority set by an enclosing {@link #runAs}, or {@code null}.
+     */
+    static UpstreamPriority override() {
+        return OVERRIDE.get();
+    }
+
+    static UpstreamPriority of(UpstreamCallType callType) {
+        UpstreamPriority override = OVERRIDE.get();
+        if (override != null) {
+            return override;
+        }
+        return switch (callType) {
+            case LOOKUP, WRITE -> USER_CRITICAL;
+            case READ -> USER;
+        };
+    }
+
+    boolean isBackground() {
+        return this == BACKGROUND;
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.api.upstream;
+
+import lombok.Getter;
+
+@Getter
+public class UpstreamRejectedException extends RuntimeException {
+
+    private final UpstreamCallType callType;
+
+    public UpstreamRejectedException(UpstreamCallType callType, String reason) {
+        super("Upstream %s call rejected: %s".formatted(callType.name().toLowerCase(), reason));
+        this.callType = callType;
+    }
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.api.upstream;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * One upstream instance together with what the api has recently seen of it: calls in flight, a moving average of call
+ * latency, the rate budget it last reported and, after a 429, when it may be used again. With a
+ * {@link SharedTokenBucket} every call first takes its turn in the host-wide budget; a call whose turn is further off
+ * than {@code maxWait} fails as if the upstream had answered 429, without spending a request.
+ */
+public class UpstreamReplica {
+
+    private static final double LATENCY_WEIGHT = 0.2;
+    private static final String SHARED_BUDGET_EXHAUSTED = "Shared upstream budget exhausted";
+
+    private final String name;
+    private final RestClient client;
+    private final UpstreamBudget budget;
+    private final SharedTokenBucket sharedBudget;
+    private final Duration maxWait;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double latencyNanos = -1.0;
+    private volatile long ejectedUntil;
+    private volatile boolean ejected;
+
+    public UpstreamReplica(String name, RestClient client, UpstreamBudget budget) {
+        this(name, client, budget, null, Duration.ZERO);
+    }
+
+    public UpstreamReplica(
+            String name, RestClient client, UpstreamBudget budget, SharedTokenBucket sharedBudget, Duration maxWait) {
+        this.name = name;
+        this.client = client;
+        this.budget = budget;
+        this.sharedBudget = sharedBudget;
+        this.maxWait = maxWait;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    <T> T call(Function<RestClient, T> call) {
+        if (sharedBudget != null) {
+            awaitTurn();
+        }
+        inFlight.incrementAndGet();
+        long started = System.nanoTime();
+        try {
+            return call.apply(client);
+        } finally {
+            inFlight.decrementAndGet();
+            long elapsed = System.nanoTime() - started;
+            double previous = latencyNanos;
+            latencyNanos = previous < 0 ? elapsed : previous + LATENCY_WEIGHT * (elapsed - previous);
+        }
+    }
+
+    private void awaitTurn() {
+        long waitMicros = sharedBudget.reserve(maxWait);
+        if (waitMicros < 0) {
+            throw throttled(sharedBudget.waitMicros());
+        }
+        if (waitMicros > 0) {
+            try {
+                TimeUnit.MICROSECONDS.sleep(waitMicros);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw throttled(waitMicros);
+            }
+        }
+    }
+
+    private static HttpClientErrorException throttled(long retryAfterMicros) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1L, (retryAfterMicros + 999_999L) / 1_000_000L)));
+        return HttpClientErrorException.create(
+                SHARED_BUDGET_EXHAUSTED, HttpStatus.TOO_MANY_REQUESTS, SHARED_BUDGET_EXHAUSTED, headers, null, null);
+    }
+
+    /**
+     * Whether the 429 was raised locally because the host-wide budget had no turn within {@code maxWait}, rather than
+     * sent by the upstream.
+     */
+    static boolean isSharedBudgetExhausted(HttpClientErrorException e) {
+        return SHARED_BUDGET_EXHAUSTED.equals(e.getStatusText());
+    }
+
+    void eject(long until) {
+        ejectedUntil = until;
+        ejected = true;
+    }
+
+    boolean isEjected(long now) {
+        if (ejected && now - ejectedUntil >= 0) {
+            ejected = false;
+        }
+        return ejected;
+    }
+
+    long ejectedUntil() {
+        return ejectedUntil;
+    }
+
+    /**
+     * Lower is better: expected latency scaled by how busy the replica is and divided by its remaining rate budget. A
+     * replica that has not reported a budget, or has not been timed yet, costs nothing so it gets probed first.
+     */
+    double cost(long now) {
+        long remaining = budget.remaining(now);
+        if (remaining == UpstreamBudget.UNKNOWN || latencyNanos < 0) {
+            return 0.0;
+        }
+        return (inFlight.get() + 1) * latencyNanos / (remaining + 1);
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.upstream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Equivalent upstream instances serving the same roster. Reads go to the cheapest replica that is not ejected (see
+ * {@link UpstreamReplica#cost}). A replica that answers 429 is ejected for its {@code Retry-After} and the read moves
+ * straight on to the next replica, so callers only fall back to the retry backoff once every replica is throttled.
+ *
+ * <p>The api does not copy writes between replicas, and the mock server assigns ids itself, so the same create sent
+ * to two servers would yield two different employees. Writes therefore go only to the primary, the first replica
+ * listed, and the others must be read replicas that follow it. A read replica that has not caught up yet and answers
+ * 404 is retried on the primary, so an employee can be looked up and deleted straight after it was created.
+ */
+@Slf4j
+public class UpstreamReplicaSet {
+
+    private final List<UpstreamReplica> replicas;
+    private final long defaultEjectionNanos;
+
+    public UpstreamReplicaSet(List<UpstreamReplica> replicas, Duration defaultEjection) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.defaultEjectionNanos = defaultEjection.toNanos();
+    }
+
+    public List<UpstreamReplica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Sends a write to the primary. Writes never fail over: a throttled primary surfaces its 429 to the retry policy.
+     */
+    public <T> T write(Function<RestClient, T> call) {
+        return callOne(replicas.get(0), call);
+    }
+
+    public <T> T call(Function<RestClient, T> call) {
+        if (replicas.size() == 1) {
+            return callOne(replicas.get(0), call);
+        }
+
+        List<UpstreamReplica> tried = new ArrayList<>(replicas.size());
+        HttpClientErrorException.TooManyRequests throttled = null;
+        while (true) {
+            UpstreamReplica replica = choose(tried, throttled == null);
+            if (replica == null) {
+                throw throttled;
+            }
+            try {
+                return callOne(replica, call);
+            } catch (HttpClientErrorException.NotFound e) {
+                if (replica == replicas.get(0)) {
+                    throw e;
+                }
+                log.debug("Replica {} answered 404, asking the primary", replica.name());
+                return callOne(replicas.get(0), call);
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                log.debug("Replica {} throttled, failing over", replica.name());
+                tried.add(replica);
+                throttled = e;
+            }
+        }
+    }
+
+    private <T> T callOne(UpstreamReplica replica, Function<RestClient, T> call) {
+        try {
+            return replica.call(call);
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            // Running out of the host-wide budget says nothing about the replica itself, so it stays in rotation.
+            if (!UpstreamReplica.isSharedBudgetExhausted(e)) {
+                replica.eject(System.nanoTime() + ejectionNanos(e));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The cheapest untried replica that is not ejected. When every untried replica is ejected, the one that recovers
+     * first is returned on the first attempt, so a call is never refused without asking upstream; on later attempts
+     * null is returned and the last 429 stands.
+     */
+    private UpstreamReplica choose(List<UpstreamReplica> tried, boolean firstAttempt) {
+        long now = System.nanoTime();
+        UpstreamReplica best = null;
+        double bestCost = Double.MAX_VALUE;
+        UpstreamReplica soonest = null;
+        for (UpstreamReplica replica : replicas) {
+            if (tried.contains(replica)) {
+                continue;
+            }
+            if (replica.isEjected(now)) {
+                if (soonest == null || replica.ejectedUntil() - soonest.ejectedUntil() < 0) {
+                    soonest = replica;
+                }
+                continue;
+            }
+            double cost = replica.cost(now);
+            if (best == null || cost < bestCost) {
+                best = replica;
+                bestCost = cost;
+            }
+        }
+        return best != null ? best : firstAttempt ? soonest : null;
+    }
+
+    private long ejectionNanos(HttpClientErrorException e) {
+        HttpHeaders headers = e.getResponseHeaders();
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim())).toNanos();
+            } catch (NumberFormatException ignored) {
+                // An HTTP-date or garbage; fall back to the default window.
+            }
+        }
+        return defaultEjectionNanos;
+    }
+}
@@ -0,0 +1,201 @@
+package com.reliaquest.api.upstream;
+
+import com.reliaquest.api.config.SchedulerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Hands out the scarce upstream request slots by priority rather than arrival order. User-facing lookups and writes
+ * go first, roster reads next and background work last; background work may never take the slots reserved for users.
+ * Within a priority, callers that have been served least go first so one chatty client cannot monopolise the
+ * upstream; grant counts decay every fairness window, so only recent usage counts. Tickets whose deadline passes
+ * while waiting are dropped instead of spending a slot on a dead request.
+ */
+@Slf4j
+@Component
+public class UpstreamScheduler {
+
+    private static final String INTERNAL_CALLER = "internal";
+
+    private final int slots;
+    private final int reservedUserSlots;
+    private final long userDeadlineNanos;
+    private final long backgroundDeadlineNanos;
+    private final long fairnessWindowNanos;
+    private final Map<UpstreamPriority, Counter> dropped = new EnumMap<>(UpstreamPriority.class);
+
+    private final List<Ticket> waiting = new ArrayList<>();
+    private final Map<String, Long> grantsByCaller = new HashMap<>();
+    private int inFlight;
+    private long sequence;
+    private long windowStart;
+
+    public UpstreamScheduler(SchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.slots = properties.slots();
+        this.reservedUserSlots = Math.min(properties.reservedUserSlots(), properties.slots() - 1);
+        this.userDeadlineNanos = properties.userDeadline().toNanos();
+        this.backgroundDeadlineNanos = properties.backgroundDeadline().toNanos();
+        this.fairnessWindowNanos = Math.max(1L, properties.fairnessWindow().toNanos());
+        this.windowStart = System.nanoTime();
+
+        for (UpstreamPriority priority : UpstreamPriority.values()) {
+            dropped.put(
+                    priority,
+                    Counter.builder("employee.upstream.scheduler.dropped")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+        Gauge.builder("employee.upstream.scheduler.queued", this, UpstreamScheduler::queuedCount)
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.scheduler.in-flight", this, UpstreamScheduler::inFlightCount)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(UpstreamCallType callType, UpstreamPriority priority, Supplier<T> call) {
+        acquire(callType, priority, currentCaller());
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    public synchronized int queuedCount() {
+        return waiting.size();
+    }
+
+    public synchronized int inFlightCount() {
+        return inFlight;
+    }
+
+    public long droppedCount(UpstreamPriority priority) {
+        return (long) dropped.get(priority).count();
+    }
+
+    private synchronized void acquire(UpstreamCallType callType, UpstreamPriority priority, String caller) {
+        long deadline = System.nanoTime() + (priority.isBackground() ? backgroundDeadlineNanos : userDeadlineNanos);
+        Ticket ticket = new Ticket(priority, caller, sequence++, deadline);
+        waiting.add(ticket);
+        dispatch();
+
+        while (!ticket.granted) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw drop(ticket, callType, "deadline exceeded while waiting for an upstream slot");
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw drop(ticket, callType, "interrupted while waiting for an upstream slot");
+            }
+        }
+    }
+
+    private synchronized void release() {
+        inFlight--;
+        dispatch();
+        if (waiting.isEmpty() && inFlight == 0) {
+            grantsByCaller.clear();
+        }
+    }
+
+    synchronized int trackedCallerCount() {
+        return grantsByCaller.size();
+    }
+
+    private void dispatch() {
+        long now = System.nanoTime();
+        decayGrants(now);
+        boolean granted = false;
+        Ticket next;
+        while (inFlight < slots && (next = nextEligible(now)) != null) {
+            waiting.remove(next);
+            next.granted = true;
+            inFlight++;
+            grantsByCaller.merge(next.caller, 1L, Long::sum);
+            granted = true;
+        }
+        if (granted) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Halves every caller's grant count once per elapsed window and forgets callers that reach zero, bounding the
+     * table to recently active callers even when the scheduler never goes idle.
+     */
+    private void decayGrants(long now) {
+        long windows = (now - windowStart) / fairnessWindowNanos;
+        if (windows <= 0) {
+            return;
+        }
+        windowStart += windows * fairnessWindowNanos;
+        int shift = (int) Math.min(windows, Long.SIZE - 1);
+        grantsByCaller.replaceAll((caller, grants) -> grants >> shift);
+        grantsByCaller.values().removeIf(grants -> grants == 0L);
+    }
+
+    private Ticket nextEligible(long now) {
+        Comparator<Ticket> order = Comparator.<Ticket, UpstreamPriority>comparing(ticket -> ticket.priority)
+                .thenComparingLong(ticket -> grantsByCaller.getOrDefault(ticket.caller, 0L))
+                .thenComparingLong(ticket -> ticket.sequence);
+
+        Ticket best = null;
+        for (Ticket ticket : waiting) {
+            if (ticket.deadline - now <= 0) {
+                continue;
+            }
+            if (ticket.priority.isBackground() && inFlight >= slots - reservedUserSlots) {
+                continue;
+            }
+            if (best == null || order.compare(ticket, best) < 0) {
+                best = ticket;
+            }
+        }
+        return best;
+    }
+
+    private UpstreamRejectedException drop(Ticket ticket, UpstreamCallType callType, String reason) {
+        waiting.remove(ticket);
+        dropped.get(ticket.priority).increment();
+        log.warn("Dropped {} upstream call for caller {}: {}", ticket.priority, ticket.caller, reason);
+        return new UpstreamRejectedException(callType, reason);
+    }
+
+    private static String currentCaller() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return INTERNAL_CALLER;
+    }
+
+    private static final class Ticket {
+
+        private final UpstreamPriority priority;
+        private final String caller;
+        private final long sequence;
+        private final long deadline;
+        private boolean granted;
+
+        private Ticket(UpstreamPriority priority, String caller, long sequence, long deadline) {
+            this.priority = priority;
+            this.caller = caller;
+            this.sequence = sequence;
+            this.deadline = deadline;
+        }
+    }
+}
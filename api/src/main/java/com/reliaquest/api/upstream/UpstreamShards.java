@@ -0,0 +1,112 @@
+package com.reliaquest.api.upstream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * The mock server instances the roster is partitioned across, each shard served by one or more equivalent
+ * {@link UpstreamReplicaSet replicas}. An employee lives on shard {@code floorMod(id.hashCode(), size)}, the same
+ * function the servers use to split the roster, so single-employee calls go straight to the owning shard. Reads that
+ * need every shard are scattered in parallel and gathered in shard order. With a single shard every call runs inline
+ * on the caller's thread.
+ */
+public class UpstreamShards implements AutoCloseable {
+
+    private final List<UpstreamReplicaSet> shards;
+    private final ExecutorService executor;
+    private final AtomicInteger nextCreateShard = new AtomicInteger();
+
+    public UpstreamShards(List<UpstreamReplicaSet> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.executor = shards.size() > 1 ? Executors.newCachedThreadPool(daemonThreads()) : null;
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    /**
+     * The shard that holds the employee with the given id.
+     */
+    public UpstreamReplicaSet owner(String id) {
+        if (shards.size() == 1) {
+            return shards.get(0);
+        }
+        return shards.get(Math.floorMod(UUID.fromString(id).hashCode(), shards.size()));
+    }
+
+    /**
+     * The shard a new employee is created on. The server picks an id it owns, so creates are spread round-robin.
+     */
+    public UpstreamReplicaSet nextForCreate() {
+        return shards.get(Math.floorMod(nextCreateShard.getAndIncrement(), shards.size()));
+    }
+
+    /**
+     * Runs the call against every shard in parallel and returns the results in shard order. If any shard fails, the
+     * first failure in shard order is rethrown unwrapped, so callers see the same exceptions as with a single upstream.
+     */
+    public <T> List<T> scatter(Function<UpstreamReplicaSet, T> call) {
+        if (executor == null) {
+            return List.of(call.apply(shards.get(0)));
+        }
+
+        // Shard calls keep the caller's identity and priority for the upstream scheduler.
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        UpstreamPriority priority = UpstreamPriority.override();
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (UpstreamReplicaSet shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> {
+                        RequestContextHolder.setRequestAttributes(request);
+                        try {
+                            return UpstreamPriority.runAs(priority, () -> call.apply(shard));
+                        } finally {
+                            RequestContextHolder.resetRequestAttributes();
+                        }
+                    },
+                    executor));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "upstream-shard-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
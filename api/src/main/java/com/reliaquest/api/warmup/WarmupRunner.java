@@ -0,0 +1,164 @@
+package com.reliaquest.api.warmup;
+
+import com.reliaquest.api.config.WarmupProperties;
+import com.reliaquest.api.controller.EmployeeAnalyticsController;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.controller.EmployeeQueryController;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.upstream.UpstreamPriority;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the readiness probe at {@code REFUSING_TRAFFIC} while it loads the roster and replays a synthetic read-only
+ * request mix through the controllers. Rounds repeat until the JIT stops spending noticeable time compiling, or the
+ * time budget runs out. Boot only reports the application ready once all runners have returned. Apart from the
+ * initial roster fetch, the mix is served from the cache and the roster snapshot, so warm-up spends no rate-limit
+ * budget. The roster fetch runs at background priority so it never holds back user requests.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.api.warmup.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final List<String> QUIET_LOGGERS =
+            List.of("com.reliaquest.api.controller", "com.reliaquest.api.service");
+    private static final long ROSTER_RETRY_MILLIS = 1000L;
+
+    private final WarmupProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoggingSystem loggingSystem;
+    private final EmployeeService employeeService;
+    private final EmployeeController employeeController;
+    private final EmployeeQueryController queryController;
+    private final EmployeeAnalyticsController analyticsController;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        final long started = System.nanoTime();
+        final long deadline = started + properties.maxDuration().toNanos();
+
+        List<Employee> roster = loadRoster(deadline);
+        if (roster.isEmpty()) {
+            log.warn("Warm-up skipped: no roster could be loaded within {}", properties.maxDuration());
+        } else {
+            Map<String, LogLevel> levels = quietLoggers();
+            try {
+                warm(roster, deadline, started);
+            } catch (RuntimeException e) {
+                log.warn("Warm-up aborted", e);
+            } finally {
+                levels.forEach(loggingSystem::setLogLevel);
+            }
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private List<Employee> loadRoster(long deadline) {
+        while (true) {
+            try {
+                return UpstreamPriority.runAs(UpstreamPriority.BACKGROUND, employeeService::getAllEmployees);
+            } catch (RuntimeException e) {
+                if (System.nanoTime() + ROSTER_RETRY_MILLIS * 1_000_000L > deadline) {
+                    return List.of();
+                }
+                log.info("Warm-up waiting for the roster: {}", e.getMessage());
+                try {
+                    Thread.sleep(ROSTER_RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return List.of();
+                }
+            }
+        }
+    }
+
+    private void warm(List<Employee> roster, long deadline, long started) {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean jitObservable = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long quietMillis = properties.compilationQuietThreshold().toMillis();
+        Random random = new Random(roster.size());
+
+        long compilationMillis = jitObservable ? compiler.getTotalCompilationTime() : 0L;
+        int rounds = 0;
+        int stable = 0;
+        while (System.nanoTime() < deadline && stable < properties.stableRounds()) {
+            for (int i = 0; i < properties.requestsPerRound(); i++) {
+                replay(i, roster.get(random.nextInt(roster.size())), random);
+            }
+            rounds++;
+
+            long delta = 0L;
+            if (jitObservable) {
+                long current = compiler.getTotalCompilationTime();
+                delta = current - compilationMillis;
+                compilationMillis = current;
+            }
+            stable = rounds >= properties.minRounds() && delta <= quietMillis ? stable + 1 : 0;
+            if (!jitObservable && rounds >= properties.minRounds()) {
+                break;
+            }
+        }
+
+        log.info(
+                "Warm-up finished after {} rounds ({} requests) in {} ms{}",
+                rounds,
+                (long) rounds * properties.requestsPerRound(),
+                (System.nanoTime() - started) / 1_000_000L,
+                stable >= properties.stableRounds() ? "" : " (time budget exhausted before JIT settled)");
+    }
+
+    private void replay(int request, Employee employee, Random random) {
+        String id = employee.getId().toString();
+        String fragment = nameFragment(employee);
+        int salary = employee.getSalary() == null ? 0 : employee.getSalary();
+        switch (request % 12) {
+            case 0 -> employeeController.getAllEmployees();
+            case 1 -> employeeController.getEmployeesByNameSearch(fragment);
+            case 2 -> employeeController.getHighestSalaryOfEmployees();
+            case 3 -> employeeController.getTopTenHighestEarningEmployeeNames();
+            case 4 -> queryController.getTopEarners(10, random.nextInt(5) * 10);
+            case 5 -> queryController.getSalaryRank(id);
+            case 6 -> queryController.getEmployeesInSalaryRange(Math.max(0, salary - 10_000), salary + 10_000);
+            case 7 -> queryController.autocompleteByName(fragment, 10, random.nextBoolean() ? "salary" : "name");
+            case 8 -> queryController.filterEmployees(
+                    employee.getAge(), null, null, salary, employee.getTitle(), null, "and");
+            case 9 -> analyticsController.getSalaryPercentiles(List.of(50.0, 90.0, 99.0));
+            case 10 -> analyticsController.getSalaryHistogram(10);
+            default -> analyticsController.getSalaryStatsByTitle();
+        }
+    }
+
+    private static String nameFragment(Employee employee) {
+        String letters = employee.getName() == null ? "" : employee.getName().replaceAll("[^a-zA-Z]", "");
+        return letters.isEmpty() ? "a" : letters.substring(0, Math.min(3, letters.length()));
+    }
+
+    private Map<String, LogLevel> quietLoggers() {
+        Map<String, LogLevel> previous = new LinkedHashMap<>();
+        for (String logger : QUIET_LOGGERS) {
+            var configuration = loggingSystem.getLoggerConfiguration(logger);
+            previous.put(logger, configuration == null ? null : configuration.getConfiguredLevel());
+            loggingSystem.setLogLevel(logger, LogLevel.WARN);
+        }
+        return previous;
+    }
+}
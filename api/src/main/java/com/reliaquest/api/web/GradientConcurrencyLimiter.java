@@ -0,0 +1,105 @@
+package com.reliaquest.api.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to latency in the style of a gradient limiter. Completed requests are averaged in
+ * windows; each window's latency is compared with a slow-moving baseline. While latency stays near the baseline the
+ * limit grows by about its square root per window, and as requests start to queue and latency climbs the gradient
+ * {@code baseline / latency} falls below one and shrinks it. The limit only grows while it is actually being used, so
+ * an idle period cannot inflate it.
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final int BASELINE_WINDOWS = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final double rttTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double baselineRtt;
+
+    public GradientConcurrencyLimiter(
+            int initialLimit, int minLimit, int maxLimit, int windowSize, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = Math.max(1, windowSize);
+        this.rttTolerance = rttTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Admits the request if fewer than {@code share} of the limit are in flight.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and records how long it took.
+     */
+    public void release(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        sample(rttNanos, inFlightBefore);
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightAtCompletion) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        if (windowSamples < windowSize) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (baselineRtt == 0.0) {
+            baselineRtt = shortRtt;
+        } else {
+            baselineRtt += (shortRtt - baselineRtt) / BASELINE_WINDOWS;
+            // Let the baseline follow latency back down quickly once a slow spell is over.
+            if (baselineRtt > 2 * shortRtt) {
+                baselineRtt *= 0.95;
+            }
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * baselineRtt / shortRtt));
+        if (gradient >= 1.0 && maxInFlight < current / 2) {
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
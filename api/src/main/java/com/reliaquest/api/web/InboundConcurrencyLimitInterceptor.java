@@ -0,0 +1,94 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.InboundLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sheds inbound requests beyond the {@link GradientConcurrencyLimiter adaptive limit} with an immediate 503 and
+ * {@code Retry-After}, before they can tie up a request thread waiting on the upstream. Each endpoint may use the
+ * share of the limit its {@link InboundPriority} allows, as declared with {@link InboundPriorityLevel}.
+ */
+@Slf4j
+public class InboundConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+    private static final String STARTED_ATTRIBUTE = InboundConcurrencyLimitInterceptor.class.getName() + ".started";
+
+    private final GradientConcurrencyLimiter limiter;
+    private final Map<Method, InboundPriority> priorities = new ConcurrentHashMap<>();
+    private final Map<InboundPriority, Counter> rejected = new EnumMap<>(InboundPriority.class);
+
+    public InboundConcurrencyLimitInterceptor(InboundLimitProperties properties, MeterRegistry meterRegistry) {
+        this.limiter = new GradientConcurrencyLimiter(
+                properties.initialLimit(),
+                properties.minLimit(),
+                properties.maxLimit(),
+                properties.windowSize(),
+                properties.rttTolerance());
+
+        for (InboundPriority priority : InboundPriority.values()) {
+            rejected.put(
+                    priority,
+                    Counter.builder("employee.inbound.rejected")
+                            .tag("priority", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+        Gauge.builder("employee.inbound.limit", limiter, GradientConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("employee.inbound.in-flight", limiter, GradientConcurrencyLimiter::inFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        InboundPriority priority =
+                priorities.computeIfAbsent(handlerMethod.getMethod(), ignored -> priorityOf(handlerMethod));
+        if (!limiter.tryAcquire(priority.share())) {
+            rejected.get(priority).increment();
+            log.debug("Shedding {} request at limit {}", priority, limiter.limit());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            return false;
+        }
+        request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_ATTRIBUTE) instanceof Long started) {
+            request.removeAttribute(STARTED_ATTRIBUTE);
+            limiter.release(System.nanoTime() - started);
+        }
+    }
+
+    static InboundPriority priorityOf(HandlerMethod handlerMethod) {
+        InboundPriorityLevel level = handlerMethod.getMethodAnnotation(InboundPriorityLevel.class);
+        if (level == null) {
+            level = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), InboundPriorityLevel.class);
+        }
+        return level == null ? InboundPriority.NORMAL : level.value();
+    }
+
+    GradientConcurrencyLimiter limiter() {
+        return limiter;
+    }
+}
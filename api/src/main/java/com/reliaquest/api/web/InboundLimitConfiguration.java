@@ -0,0 +1,40 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.InboundLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+public class InboundLimitConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.api.inbound-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public InboundConcurrencyLimitInterceptor inboundConcurrencyLimitInterceptor(
+            InboundLimitProperties properties, MeterRegistry meterRegistry) {
+        return new InboundConcurrencyLimitInterceptor(properties, meterRegistry);
+    }
+
+    /**
+     * Registered separately so MVC test slices, which pick up configurers but not this configuration's beans, run
+     * without the limiter. Peer replication traffic is never shed.
+     */
+    @Configuration(proxyBeanMethods = false)
+    static class InboundLimitWebConfigurer implements WebMvcConfigurer {
+
+        private final ObjectProvider<InboundConcurrencyLimitInterceptor> interceptor;
+
+        InboundLimitWebConfigurer(ObjectProvider<InboundConcurrencyLimitInterceptor> interceptor) {
+            this.interceptor = interceptor;
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            interceptor.ifAvailable(limit -> registry.addInterceptor(limit).excludePathPatterns("/internal/**"));
+        }
+    }
+}
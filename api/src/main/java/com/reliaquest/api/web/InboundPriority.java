@@ -0,0 +1,21 @@
+package com.reliaquest.api.web;
+
+/**
+ * How much of the inbound concurrency limit an endpoint may use. Lower priorities are shed first, leaving the
+ * remaining headroom to cheap reads served from the cached roster.
+ */
+public enum InboundPriority {
+    HIGH(1.0),
+    NORMAL(0.8),
+    LOW(0.5);
+
+    private final double share;
+
+    InboundPriority(double share) {
+        this.share = share;
+    }
+
+    public double share() {
+        return share;
+    }
+}
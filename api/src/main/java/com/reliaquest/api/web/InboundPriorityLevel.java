@@ -0,0 +1,17 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link InboundPriority} of a handler method, or of every handler in a controller when placed on the class. A
+ * method annotation wins over the class one; unannotated handlers are {@code NORMAL}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InboundPriorityLevel {
+
+    InboundPriority value();
+}
@@ -0,0 +1,112 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.TitleSalaryStats;
+import com.reliaquest.api.service.EmployeeAnalyticsService;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.HttpClientErrorException;
+
+@WebMvcTest(EmployeeAnalyticsController.class)
+class EmployeeAnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeAnalyticsService analyticsService;
+
+    @Test
+    void getSalaryPercentiles_shouldReturnRequestedPercentiles() throws Exception {
+        // Arrange
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", 90000);
+        percentiles.put("p99", 450000);
+        when(analyticsService.getSalaryPercentiles(List.of(50.0, 99.0))).thenReturn(percentiles);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/percentiles").param("p", "50,99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.p50").value(90000))
+                .andExpect(jsonPath("$.p99").value(450000));
+    }
+
+    @Test
+    void getSalaryPercentiles_shouldReturn400WhenPercentileOutOfRange() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/percentiles").param("p", "0,101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(analyticsService);
+    }
+
+    @Test
+    void getSalaryPercentiles_shouldReturn400WhenPercentileIsNaN() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/percentiles").param("p", "50,NaN"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(analyticsService);
+    }
+
+    @Test
+    void getSalaryHistogram_shouldReturnBuckets() throws Exception {
+        // Arrange
+        when(analyticsService.getSalaryHistogram(2))
+                .thenReturn(List.of(new SalaryHistogramBucket(0, 9, 3), new SalaryHistogramBucket(10, 19, 1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/histogram").param("buckets", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].lowerBound").value(0))
+                .andExpect(jsonPath("$[0].count").value(3));
+    }
+
+    @Test
+    void getSalaryHistogram_shouldReturn400WhenBucketCountInvalid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/histogram").param("buckets", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(analyticsService, never()).getSalaryHistogram(anyInt());
+    }
+
+    @Test
+    void getSalaryStatsByTitle_shouldReturnStats() throws Exception {
+        // Arrange
+        when(analyticsService.getSalaryStatsByTitle())
+                .thenReturn(List.of(new TitleSalaryStats("Engineer", 2, 200.0, 100, 300)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/titles"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Engineer"))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[0].mean").value(200.0))
+                .andExpect(jsonPath("$[0].min").value(100))
+                .andExpect(jsonPath("$[0].max").value(300));
+    }
+
+    @Test
+    void getSalaryStatsByTitle_shouldReturn429WhenRateLimited() throws Exception {
+        // Arrange
+        when(analyticsService.getSalaryStatsByTitle())
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/analytics/salary/titles")).andExpect(status().isTooManyRequests());
+    }
+}
@@ -8,12 +8,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.upstream.UpstreamCallType;
+import com.reliaquest.api.upstream.UpstreamRejectedException;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -100,6 +103,35 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployees();
     }
 
+    @Test
+    void getAllEmployees_shouldPassUpstreamRetryAfterThroughOn429() throws Exception {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "30");
+        when(employeeService.getAllEmployees())
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+    }
+
+    @Test
+    void getAllEmployees_shouldReturn503WhenUpstreamBulkheadIsFull() throws Exception {
+        // Arrange
+        when(employeeService.getAllEmployees())
+                .thenThrow(new UpstreamRejectedException(UpstreamCallType.READ, "queue full"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+
+        verify(employeeService, times(1)).getAllEmployees();
+    }
+
     @Test
     void getAllEmployees_shouldReturn500OnException() throws Exception {
         // Arrange
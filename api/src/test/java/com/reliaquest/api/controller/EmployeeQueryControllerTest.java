@@ -0,0 +1,175 @@
+package com.reliaquest.api.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryRank;
+import com.reliaquest.api.roster.NamePrefixIndex;
+import com.reliaquest.api.service.EmployeeQueryService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(EmployeeQueryController.class)
+class EmployeeQueryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeQueryService queryService;
+
+    @Test
+    void getTopEarners_shouldReturnRequestedPage() throws Exception {
+        // Arrange
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(95000)
+                .build();
+        when(queryService.getTopEarners(5, 10)).thenReturn(List.of(employee));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/top").param("limit", "5").param("offset", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("John Doe"))
+                .andExpect(jsonPath("$[0].salary").value(95000));
+    }
+
+    @Test
+    void getTopEarners_shouldReturn400WhenLimitInvalid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/top").param("limit", "0")).andExpect(status().isBadRequest());
+
+        verify(queryService, never()).getTopEarners(anyInt(), anyInt());
+    }
+
+    @Test
+    void getSalaryRank_shouldReturnRank() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(queryService.getSalaryRank(id.toString())).thenReturn(new SalaryRank(id, "John Doe", 95000, 3, 50));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/rank/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(3))
+                .andExpect(jsonPath("$.total").value(50));
+    }
+
+    @Test
+    void getSalaryRank_shouldReturn404WhenNotFound() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(queryService.getSalaryRank(id.toString())).thenThrow(new IllegalArgumentException("not found"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/rank/{id}", id)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getSalaryRank_shouldReturn400WhenIdIsNotValidUUID() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/rank/{id}", "not-a-uuid")).andExpect(status().isBadRequest());
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void getEmployeesInSalaryRange_shouldReturn400WhenRangeInverted() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/salary-range")
+                        .param("min", "200")
+                        .param("max", "100"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void autocompleteByName_shouldReturnMatchesRankedByRequestedKey() throws Exception {
+        // Arrange
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(95000)
+                .build();
+        when(queryService.autocompleteByName("jo", 5, NamePrefixIndex.RankBy.NAME))
+                .thenReturn(List.of(employee));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/autocomplete/{prefix}", "jo")
+                        .param("limit", "5")
+                        .param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+    }
+
+    @Test
+    void autocompleteByName_shouldReturn400WhenSortKeyUnknown() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/autocomplete/{prefix}", "jo")
+                        .param("sort", "age"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void filterEmployees_shouldPassCriteriaToService() throws Exception {
+        // Arrange
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(95000)
+                .age(30)
+                .title("Engineer")
+                .build();
+        EmployeeFilter expected = EmployeeFilter.builder()
+                .minAge(25)
+                .maxAge(35)
+                .title("Engineer")
+                .combinator(EmployeeFilter.Combinator.OR)
+                .build();
+        when(queryService.filterEmployees(expected)).thenReturn(List.of(employee));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/filter")
+                        .param("minAge", "25")
+                        .param("maxAge", "35")
+                        .param("title", "Engineer")
+                        .param("mode", "or"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("John Doe"));
+    }
+
+    @Test
+    void filterEmployees_shouldReturn400WhenAgeRangeInverted() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/filter")
+                        .param("minAge", "50")
+                        .param("maxAge", "20"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void filterEmployees_shouldReturn400WhenSalaryBoundIsNegative() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee/query/filter").param("minSalary", String.valueOf(Integer.MIN_VALUE)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/query/filter").param("maxSalary", "-1"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(queryService);
+    }
+}
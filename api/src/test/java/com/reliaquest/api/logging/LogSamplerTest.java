@@ -0,0 +1,82 @@
+package com.reliaquest.api.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class LogSamplerTest {
+
+    private Logger logger;
+    private LogSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        logger = new LoggerContext().getLogger("sampled");
+        logger.setLevel(Level.INFO);
+        sampler = new LogSampler(1.0, Map.of("getEmployeeById", 0.0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void decide_shouldDropInfoForFullySampledEndpoint() {
+        // Arrange
+        MDC.put(LogSampler.ENDPOINT_KEY, "getEmployeeById");
+
+        // Act
+        FilterReply reply = sampler.decide(null, logger, Level.INFO, "Fetching {}", null, null);
+
+        // Assert
+        assertEquals(FilterReply.DENY, reply);
+    }
+
+    @Test
+    void decide_shouldAlwaysKeepWarnings() {
+        // Arrange
+        MDC.put(LogSampler.ENDPOINT_KEY, "getEmployeeById");
+
+        // Act
+        FilterReply reply = sampler.decide(null, logger, Level.WARN, "Upstream failed", null, null);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, reply);
+    }
+
+    @Test
+    void decide_shouldNotSampleOutsideRequestsOrEnabledChecks() {
+        // Act
+        FilterReply outsideRequest = sampler.decide(null, logger, Level.INFO, "Background", null, null);
+        MDC.put(LogSampler.ENDPOINT_KEY, "getEmployeeById");
+        FilterReply enabledCheck = sampler.decide(null, logger, Level.INFO, null, null, null);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, outsideRequest);
+        assertEquals(FilterReply.NEUTRAL, enabledCheck);
+    }
+
+    @Test
+    void setRate_shouldApplyAtRuntimeAndClamp() {
+        // Arrange
+        MDC.put(LogSampler.ENDPOINT_KEY, "getEmployeeById");
+
+        // Act
+        sampler.setRate("getEmployeeById", 5.0);
+        sampler.setDefaultRate(-1.0);
+
+        // Assert
+        assertEquals(FilterReply.NEUTRAL, sampler.decide(null, logger, Level.INFO, "Fetching {}", null, null));
+        assertEquals(1.0, sampler.rates().get("getEmployeeById"));
+        assertEquals(0.0, sampler.defaultRate());
+    }
+}
@@ -0,0 +1,107 @@
+package com.reliaquest.api.peer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.dto.PeerChangeDto;
+import com.reliaquest.api.model.Employee;
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PeerBroadcasterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final List<String> secrets = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(PeerBroadcaster.CHANGES_PATH, exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            PeerChangeDto change = objectMapper.readValue(exchange.getRequestBody(), PeerChangeDto.class);
+            received.add(change.getType()
+                    + (change.getEmployee() == null
+                            ? ""
+                            : " " + change.getEmployee().getName()));
+            secrets.add(exchange.getRequestHeaders().getFirst(PeerBroadcaster.SECRET_HEADER));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void created_shouldCollapseBacklogBeyondLimitIntoOneInvalidation() throws Exception {
+        // Arrange
+        PeerBroadcaster broadcaster = new PeerBroadcaster(
+                new PeerProperties(
+                        List.of("http://127.0.0.1:" + server.getAddress().getPort()),
+                        "s3cret",
+                        Duration.ofSeconds(5),
+                        Duration.ofMinutes(5),
+                        3),
+                objectMapper);
+
+        // Act
+        for (int i = 1; i <= 10; i++) {
+            broadcaster.created(employee("Employee " + i));
+        }
+        release.countDown();
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        assertEquals(
+                List.of("CREATED Employee 1", "INVALIDATE", "CREATED Employee 9", "CREATED Employee 10"), received);
+        assertEquals(List.of("s3cret", "s3cret", "s3cret", "s3cret"), secrets);
+    }
+
+    @Test
+    void peerProperties_shouldOnlyAuthenticateMatchingSecret() {
+        // Arrange
+        PeerProperties properties =
+                new PeerProperties(List.of("http://peer"), "s3cret", Duration.ofSeconds(2), Duration.ofMinutes(5), 256);
+        PeerProperties unconfigured =
+                new PeerProperties(List.of(), null, Duration.ofSeconds(2), Duration.ofMinutes(5), 256);
+
+        // Act & Assert
+        assertTrue(properties.authenticates("s3cret"));
+        assertFalse(properties.authenticates("guess"));
+        assertFalse(properties.authenticates(null));
+        assertFalse(unconfigured.authenticates(""));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new PeerProperties(
+                        List.of("http://peer"), null, Duration.ofSeconds(2), Duration.ofMinutes(5), 256));
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.reliaquest.api.peer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.PeerChangeDto;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.RosterInvalidatedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class PeerRosterServiceTest {
+
+    private final UUID aliceId = UUID.randomUUID();
+    private final UUID bobId = UUID.randomUUID();
+
+    private EmployeeRoster roster;
+    private Cache cache;
+    private PeerRosterService service;
+    private List<Object> events;
+
+    @BeforeEach
+    void setUp() {
+        roster = new EmployeeRoster();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(PeerRosterService.EMPLOYEES_CACHE);
+        cache = cacheManager.getCache(PeerRosterService.EMPLOYEES_CACHE);
+        events = new ArrayList<>();
+        service = new PeerRosterService(roster, cacheManager, events::add);
+    }
+
+    @Test
+    void apply_shouldPatchRosterAndCachedList() {
+        // Arrange
+        roster.publish(List.of(employee(aliceId, "Alice")));
+        cache.put(SimpleKey.EMPTY, roster.current().orElseThrow().employees());
+
+        // Act
+        service.apply(new PeerChangeDto(PeerChangeDto.CREATED, employee(bobId, "Bob")));
+        service.apply(new PeerChangeDto(
+                PeerChangeDto.DELETED, Employee.builder().id(aliceId).build()));
+
+        // Assert
+        List<Employee> employees = roster.current().orElseThrow().employees();
+        assertEquals(List.of("Bob"), employees.stream().map(Employee::getName).toList());
+        assertEquals(employees, cache.get(SimpleKey.EMPTY).get());
+    }
+
+    @Test
+    void apply_shouldDropRosterOnInvalidate() {
+        // Arrange
+        roster.publish(List.of(employee(aliceId, "Alice")));
+        cache.put(SimpleKey.EMPTY, roster.current().orElseThrow().employees());
+
+        // Act
+        service.apply(new PeerChangeDto(PeerChangeDto.INVALIDATE, null));
+
+        // Assert
+        assertTrue(roster.current().isEmpty());
+        assertNull(cache.get(SimpleKey.EMPTY));
+        assertEquals(1, events.size());
+        assertInstanceOf(RosterInvalidatedEvent.class, events.get(0));
+    }
+
+    @Test
+    void apply_shouldRejectChangeWithoutEmployeeId() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.apply(new PeerChangeDto(PeerChangeDto.CREATED, new Employee())));
+    }
+
+    private static Employee employee(UUID id, String name) {
+        return Employee.builder().id(id).name(name).salary(100).build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.peer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.roster.RosterSnapshot;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RosterSnapshotCodecTest {
+
+    @Test
+    void read_shouldRoundTripSnapshot() throws IOException {
+        // Arrange
+        Instant loadedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        List<Employee> employees = List.of(
+                new Employee(UUID.randomUUID(), "Ada Lovelace", 150000, 36, "Engineer", "ada@company.com"),
+                Employee.builder().id(UUID.randomUUID()).name("José Núñez").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        RosterSnapshotCodec.write(RosterSnapshot.of(42, employees, loadedAt), out);
+        RosterSnapshotCodec.Decoded decoded = RosterSnapshotCodec.read(new ByteArrayInputStream(out.toByteArray()));
+
+        // Assert
+        assertEquals(42, decoded.version());
+        assertEquals(loadedAt, decoded.loadedAt());
+        assertEquals(employees, decoded.employees());
+    }
+
+    @Test
+    void read_shouldRejectForeignPayload() {
+        // Arrange
+        byte[] json = "{\"data\":[]}".getBytes();
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> RosterSnapshotCodec.read(new ByteArrayInputStream(json)));
+    }
+
+    @Test
+    void read_shouldFailOnTruncatedBodyClaimingHugeRoster() throws IOException {
+        // Arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(0x52535031);
+        data.writeLong(1L);
+        data.writeLong(0L);
+        data.writeInt(50_000_000);
+        data.flush();
+
+        // Act & Assert
+        assertThrows(EOFException.class, () -> RosterSnapshotCodec.read(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
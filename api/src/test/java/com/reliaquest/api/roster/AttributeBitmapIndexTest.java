@@ -0,0 +1,94 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AttributeBitmapIndexTest {
+
+    private final Employee alice = employee("Alice", 25, 95000, "Engineer", "alice@company.com");
+    private final Employee bob = employee("Bob", 40, 120000, "Manager", "bob@company.com");
+    private final Employee carol = employee("Carol", 33, 101000, "Engineer", "carol@partner.org");
+    private final AttributeBitmapIndex index = AttributeBitmapIndex.of(List.of(alice, bob, carol));
+
+    @Test
+    void filter_shouldIntersectClausesInAndMode() {
+        // Act
+        List<Employee> result = index.filter(EmployeeFilter.builder()
+                .minAge(30)
+                .title("engineer")
+                .combinator(EmployeeFilter.Combinator.AND)
+                .build());
+
+        // Assert
+        assertEquals(List.of(carol), result);
+    }
+
+    @Test
+    void filter_shouldUniteClausesInOrMode() {
+        // Act
+        List<Employee> result = index.filter(EmployeeFilter.builder()
+                .title("Manager")
+                .emailDomain("PARTNER.ORG")
+                .combinator(EmployeeFilter.Combinator.OR)
+                .build());
+
+        // Assert
+        assertEquals(List.of(bob, carol), result);
+    }
+
+    @Test
+    void filter_shouldRefineSalaryRangeWithinEdgeBuckets() {
+        // Act
+        List<Employee> result = index.filter(EmployeeFilter.builder()
+                .minSalary(96000)
+                .maxSalary(110000)
+                .combinator(EmployeeFilter.Combinator.AND)
+                .build());
+
+        // Assert
+        assertEquals(List.of(carol), result);
+    }
+
+    @Test
+    void filter_shouldReturnEveryoneWithoutClauses() {
+        // Act & Assert
+        assertEquals(
+                List.of(alice, bob, carol),
+                index.filter(EmployeeFilter.builder()
+                        .combinator(EmployeeFilter.Combinator.AND)
+                        .build()));
+    }
+
+    @Test
+    void plusAndMinus_shouldNotAffectPreviousIndex() {
+        // Arrange
+        Employee dave = employee("Dave", 28, 97000, "Engineer", "dave@company.com");
+
+        // Act
+        AttributeBitmapIndex updated = index.plus(dave).minus(alice);
+        EmployeeFilter engineers = EmployeeFilter.builder()
+                .title("Engineer")
+                .combinator(EmployeeFilter.Combinator.AND)
+                .build();
+
+        // Assert
+        assertEquals(List.of(carol, dave), updated.filter(engineers));
+        assertEquals(List.of(alice, carol), index.filter(engineers));
+    }
+
+    private static Employee employee(String name, int age, int salary, String title, String email) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(email)
+                .build();
+    }
+}
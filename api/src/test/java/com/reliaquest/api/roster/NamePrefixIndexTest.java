@@ -0,0 +1,74 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class NamePrefixIndexTest {
+
+    private final Employee johnDoe = employee("John Doe", 75000);
+    private final Employee janeJohnson = employee("Jane Johnson", 95000);
+    private final Employee bobSmith = employee("Bob Smith", 60000);
+
+    @Test
+    void complete_shouldMatchFirstAndLastNameTokens() {
+        // Arrange
+        NamePrefixIndex index = NamePrefixIndex.of(List.of(johnDoe, janeJohnson, bobSmith));
+
+        // Act
+        List<Employee> result = index.complete("JOH", 10, NamePrefixIndex.RankBy.SALARY);
+
+        // Assert
+        assertEquals(List.of(janeJohnson, johnDoe), result);
+    }
+
+    @Test
+    void complete_shouldRankByNameAndHonourLimit() {
+        // Arrange
+        NamePrefixIndex index = NamePrefixIndex.of(List.of(johnDoe, janeJohnson, bobSmith));
+
+        // Act
+        List<Employee> result = index.complete("j", 1, NamePrefixIndex.RankBy.NAME);
+
+        // Assert
+        assertEquals(List.of(janeJohnson), result);
+    }
+
+    @Test
+    void complete_shouldReturnEachEmployeeOnceWhenSeveralTokensMatch() {
+        // Arrange
+        Employee annAnnabel = employee("Ann Annabel", 50000);
+        NamePrefixIndex index = NamePrefixIndex.of(List.of(annAnnabel));
+
+        // Act & Assert
+        assertEquals(List.of(annAnnabel), index.complete("ann", 10, NamePrefixIndex.RankBy.SALARY));
+    }
+
+    @Test
+    void plusAndMinus_shouldUpdateMatches() {
+        // Arrange
+        NamePrefixIndex index = NamePrefixIndex.of(List.of(johnDoe, bobSmith));
+        Employee bobby = employee("Bobby Tables", 80000);
+
+        // Act
+        NamePrefixIndex updated = index.plus(bobby).minus(bobSmith);
+
+        // Assert
+        assertEquals(List.of(bobby), updated.complete("bob", 10, NamePrefixIndex.RankBy.SALARY));
+        assertEquals(List.of(johnDoe), updated.complete("doe", 10, NamePrefixIndex.RankBy.SALARY));
+    }
+
+    private static Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(" ", ".") + "@company.com")
+                .build();
+    }
+}
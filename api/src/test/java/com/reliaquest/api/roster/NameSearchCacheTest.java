@@ -0,0 +1,102 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.SearchCacheProperties;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameSearchCacheTest {
+
+    private final AtomicInteger searches = new AtomicInteger();
+
+    private NameSearchCache cache;
+    private RosterSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NameSearchCache(new SearchCacheProperties(2), new SimpleMeterRegistry());
+        snapshot = RosterSnapshot.of(1, List.of(employee("John Doe"), employee("Jane Smith")));
+    }
+
+    @Test
+    void get_shouldServeRepeatedFragmentFromCacheIgnoringCase() {
+        // Arrange
+        List<Employee> first = cache.get(snapshot, "john", search(snapshot));
+
+        // Act
+        List<Employee> second = cache.get(snapshot, "JOHN", search(snapshot));
+
+        // Assert
+        assertEquals(1, searches.get());
+        assertSame(first, second);
+        assertEquals("John Doe", second.get(0).getName());
+        assertEquals(0.5, cache.hitRate());
+    }
+
+    @Test
+    void get_shouldRecomputeWhenSnapshotVersionChanges() {
+        // Arrange
+        cache.get(snapshot, "j", search(snapshot));
+        RosterSnapshot next = snapshot.withAdded(employee("Jim Beam"));
+
+        // Act
+        List<Employee> result = cache.get(next, "j", search(next));
+
+        // Assert
+        assertEquals(2, searches.get());
+        assertEquals(3, result.size());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedFragment() {
+        // Arrange
+        cache.get(snapshot, "john", search(snapshot));
+        cache.get(snapshot, "jane", search(snapshot));
+        cache.get(snapshot, "john", search(snapshot));
+
+        // Act
+        cache.get(snapshot, "doe", search(snapshot));
+        cache.get(snapshot, "john", search(snapshot));
+        cache.get(snapshot, "jane", search(snapshot));
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(4, searches.get());
+    }
+
+    @Test
+    void get_shouldNotCacheResultsForAnOlderSnapshot() {
+        // Arrange
+        RosterSnapshot next = snapshot.withAdded(employee("Jim Beam"));
+        cache.get(next, "j", search(next));
+
+        // Act
+        cache.get(snapshot, "j", search(snapshot));
+        cache.get(next, "j", search(next));
+
+        // Assert
+        assertEquals(2, searches.get());
+        assertEquals(1, cache.size());
+    }
+
+    private Function<String, List<Employee>> search(RosterSnapshot source) {
+        return fragment -> {
+            searches.incrementAndGet();
+            return source.employees().stream()
+                    .filter(employee -> employee.getName().toLowerCase().contains(fragment))
+                    .toList();
+        };
+    }
+
+    private static Employee employee(String name) {
+        return Employee.builder().id(UUID.randomUUID()).name(name).salary(100).build();
+    }
+}
@@ -0,0 +1,178 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.ChangeFeedProperties;
+import com.reliaquest.api.config.ShardingProperties;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class RosterChangeFeedSubscriberTest {
+
+    private final UUID aliceId = UUID.randomUUID();
+    private final UUID bobId = UUID.randomUUID();
+
+    private EmployeeRoster roster;
+    private Cache cache;
+    private RosterChangeFeedSubscriber subscriber;
+    private ConcurrentMapCacheManager cacheManager;
+    private List<Object> events;
+
+    @BeforeEach
+    void setUp() {
+        roster = new EmployeeRoster();
+        cacheManager = new ConcurrentMapCacheManager(RosterChangeFeedSubscriber.EMPLOYEES_CACHE);
+        cache = cacheManager.getCache(RosterChangeFeedSubscriber.EMPLOYEES_CACHE);
+        events = new ArrayList<>();
+        subscriber = subscriber(new ShardingProperties(List.of()));
+    }
+
+    @Test
+    void constructor_shouldFollowPrimaryOfSingleShard() {
+        // Act
+        RosterChangeFeedSubscriber single =
+                subscriber(new ShardingProperties(List.of(List.of("http://primary:8112", "http://replica:8112"))));
+
+        // Assert
+        assertEquals("http://primary:8112", single.baseUrl());
+        assertEquals("http://localhost:8112", subscriber.baseUrl());
+    }
+
+    @Test
+    void constructor_shouldRefuseMultipleShards() {
+        // Arrange
+        ShardingProperties sharding =
+                new ShardingProperties(List.of(List.of("http://shard0:8112"), List.of("http://shard1:8112")));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> subscriber(sharding));
+    }
+
+    @Test
+    void handleEvent_shouldDropRosterOnFirstSync() throws Exception {
+        // Arrange
+        roster.publish(List.of(employee(aliceId, "Alice")));
+        cache.put(SimpleKey.EMPTY, List.of());
+
+        // Act
+        subscriber.handleEvent("sync", "{\"version\":7}");
+
+        // Assert
+        assertTrue(roster.current().isEmpty());
+        assertNull(cache.get(SimpleKey.EMPTY));
+        assertEquals(7, subscriber.lastVersion());
+    }
+
+    @Test
+    void handleEvent_shouldApplyChangesToRosterAndCachedList() throws Exception {
+        // Arrange
+        subscriber.handleEvent("sync", "{\"version\":1}");
+        roster.publish(List.of(employee(aliceId, "Alice")));
+        cache.put(SimpleKey.EMPTY, roster.current().orElseThrow().employees());
+
+        // Act
+        subscriber.handleEvent("change", change(2, "CREATED", bobId, "Bob"));
+        subscriber.handleEvent("change", change(3, "DELETED", aliceId, "Alice"));
+
+        // Assert
+        RosterSnapshot snapshot = roster.current().orElseThrow();
+        assertEquals(1, snapshot.size());
+        assertEquals("Bob", snapshot.employees().get(0).getName());
+        assertEquals(snapshot.employees(), cache.get(SimpleKey.EMPTY).get());
+        assertEquals(3, subscriber.lastVersion());
+    }
+
+    @Test
+    void handleEvent_shouldInvalidateOnReset() throws Exception {
+        // Arrange
+        subscriber.handleEvent("sync", "{\"version\":1}");
+        roster.publish(List.of(employee(aliceId, "Alice")));
+        cache.put(SimpleKey.EMPTY, roster.current().orElseThrow().employees());
+
+        // Act
+        subscriber.handleEvent("reset", "{\"version\":42}");
+
+        // Assert
+        assertTrue(roster.current().isEmpty());
+        assertNull(cache.get(SimpleKey.EMPTY));
+        assertEquals(42, subscriber.lastVersion());
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void publishFetched_shouldReplayFeedChangesNewerThanTheFetchedRoster() throws Exception {
+        // Arrange
+        subscriber.handleEvent("sync", "{\"version\":1}");
+        subscriber.handleEvent("change", change(2, "CREATED", bobId, "Bob"));
+        subscriber.handleEvent("change", change(3, "DELETED", aliceId, "Alice"));
+
+        // Act
+        RosterSnapshot snapshot = subscriber
+                .publishFetched(1, List.of(employee(aliceId, "Alice")))
+                .orElseThrow();
+
+        // Assert
+        assertEquals(1, snapshot.size());
+        assertEquals("Bob", snapshot.employees().get(0).getName());
+        assertSame(snapshot, roster.current().orElseThrow());
+    }
+
+    @Test
+    void publishFetched_shouldRefuseRosterOlderThanAReset() throws Exception {
+        // Arrange
+        subscriber.handleEvent("sync", "{\"version\":1}");
+        subscriber.handleEvent("reset", "{\"version\":42}");
+
+        // Act
+        Optional<RosterSnapshot> published = subscriber.publishFetched(5, List.of(employee(aliceId, "Alice")));
+
+        // Assert
+        assertTrue(published.isEmpty());
+        assertTrue(roster.current().isEmpty());
+    }
+
+    @Test
+    void publishFetched_shouldPublishCurrentRosterAsFetched() throws Exception {
+        // Arrange
+        subscriber.handleEvent("sync", "{\"version\":1}");
+        subscriber.handleEvent("change", change(2, "CREATED", bobId, "Bob"));
+
+        // Act
+        RosterSnapshot snapshot = subscriber
+                .publishFetched(2, List.of(employee(aliceId, "Alice"), employee(bobId, "Bob")))
+                .orElseThrow();
+
+        // Assert
+        assertEquals(2, snapshot.size());
+    }
+
+    private RosterChangeFeedSubscriber subscriber(ShardingProperties sharding) {
+        return new RosterChangeFeedSubscriber(
+                "http://localhost:8112",
+                roster,
+                cacheManager,
+                new ObjectMapper(),
+                new ChangeFeedProperties(true, Duration.ofSeconds(1), Duration.ofSeconds(60)),
+                sharding,
+                events::add);
+    }
+
+    private static String change(long version, String type, UUID id, String name) {
+        return "{\"version\":" + version + ",\"type\":\"" + type + "\",\"employee\":{\"id\":\"" + id
+                + "\",\"employee_name\":\"" + name + "\",\"employee_salary\":100}}";
+    }
+
+    private static Employee employee(UUID id, String name) {
+        return Employee.builder().id(id).name(name).salary(100).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final Employee alice = employee("Alice", 300);
+    private final Employee bob = employee("Bob", 100);
+    private final Employee carol = employee("Carol", 200);
+    private final Employee dave = employee("Dave", 200);
+
+    @Test
+    void top_shouldReturnPageOrderedBySalaryDescending() {
+        // Arrange
+        SalaryIndex index = SalaryIndex.of(List.of(alice, bob, carol, dave));
+
+        // Act & Assert
+        assertEquals(List.of(alice, carol), index.top(2, 0));
+        assertEquals(List.of(dave, bob), index.top(5, 2));
+        assertTrue(index.top(5, 4).isEmpty());
+    }
+
+    @Test
+    void rankOf_shouldShareRankBetweenEqualSalaries() {
+        // Arrange
+        SalaryIndex index = SalaryIndex.of(List.of(alice, bob, carol, dave));
+
+        // Act & Assert
+        assertEquals(1, index.rankOf(300));
+        assertEquals(2, index.rankOf(200));
+        assertEquals(4, index.rankOf(100));
+    }
+
+    @Test
+    void range_shouldReturnEmployeesWithinInclusiveBounds() {
+        // Arrange
+        SalaryIndex index = SalaryIndex.of(List.of(alice, bob, carol, dave));
+
+        // Act & Assert
+        assertEquals(List.of(carol, dave, bob), index.range(100, 200));
+        assertEquals(List.of(alice), index.range(250, 1000));
+        assertTrue(index.range(201, 299).isEmpty());
+    }
+
+    @Test
+    void plusAndMinus_shouldKeepIndexOrdered() {
+        // Arrange
+        SalaryIndex index = SalaryIndex.of(List.of(alice, bob, carol));
+        Employee erin = employee("Erin", 250);
+
+        // Act
+        SalaryIndex updated = index.plus(erin).minus(carol);
+
+        // Assert
+        assertEquals(List.of(alice, erin, bob), updated.top(10, 0));
+        assertEquals(3, updated.size());
+        assertEquals(2, updated.rankOf(250));
+    }
+
+    private static Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Engineer")
+                .email(name.toLowerCase() + "@company.com")
+                .build();
+    }
+}
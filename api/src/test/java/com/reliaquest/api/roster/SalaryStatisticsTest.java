@@ -0,0 +1,119 @@
+package com.reliaquest.api.roster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.SalaryHistogramBucket;
+import com.reliaquest.api.model.TitleSalaryStats;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryStatisticsTest {
+
+    @Test
+    void of_shouldComputeOverallAggregates() {
+        // Arrange
+        List<Employee> employees = List.of(
+                employee("Engineer", 100),
+                employee("Engineer", 300),
+                employee("Manager", 200),
+                employee("Manager", 400));
+
+        // Act
+        SalaryStatistics statistics = SalaryStatistics.of(employees);
+
+        // Assert
+        assertEquals(4, statistics.count());
+        assertEquals(100, statistics.min());
+        assertEquals(400, statistics.max());
+        assertEquals(250.0, statistics.mean());
+    }
+
+    @Test
+    void percentile_shouldUseNearestRank() {
+        // Arrange
+        SalaryStatistics statistics = SalaryStatistics.of(
+                List.of(employee("A", 10), employee("A", 20), employee("A", 30), employee("A", 40), employee("A", 50)));
+
+        // Act & Assert
+        assertEquals(30, statistics.percentile(50));
+        assertEquals(50, statistics.percentile(90));
+        assertEquals(10, statistics.percentile(1));
+        assertEquals(50, statistics.percentile(100));
+    }
+
+    @Test
+    void histogram_shouldCountSalariesPerEqualWidthBucket() {
+        // Arrange
+        SalaryStatistics statistics =
+                SalaryStatistics.of(List.of(employee("A", 0), employee("A", 5), employee("A", 10), employee("A", 19)));
+
+        // Act
+        List<SalaryHistogramBucket> histogram = statistics.histogram(2);
+
+        // Assert
+        assertEquals(List.of(new SalaryHistogramBucket(0, 9, 2), new SalaryHistogramBucket(10, 19, 2)), histogram);
+    }
+
+    @Test
+    void byTitle_shouldReturnStatsOrderedByTitle() {
+        // Arrange
+        SalaryStatistics statistics = SalaryStatistics.of(
+                List.of(employee("Manager", 200), employee("Engineer", 100), employee("Engineer", 300)));
+
+        // Act
+        List<TitleSalaryStats> stats = statistics.byTitle();
+
+        // Assert
+        assertEquals(
+                List.of(
+                        new TitleSalaryStats("Engineer", 2, 200.0, 100, 300),
+                        new TitleSalaryStats("Manager", 1, 200.0, 200, 200)),
+                stats);
+    }
+
+    @Test
+    void plusAndMinus_shouldMatchFullRebuild() {
+        // Arrange
+        Employee removed = employee("Engineer", 300);
+        Employee added = employee("Designer", 150);
+        SalaryStatistics statistics =
+                SalaryStatistics.of(List.of(employee("Engineer", 100), removed, employee("Manager", 200)));
+
+        // Act
+        SalaryStatistics updated = statistics.minus(removed).plus(added);
+        SalaryStatistics rebuilt =
+                SalaryStatistics.of(List.of(employee("Engineer", 100), employee("Manager", 200), added));
+
+        // Assert
+        assertEquals(rebuilt.count(), updated.count());
+        assertEquals(rebuilt.max(), updated.max());
+        assertEquals(rebuilt.mean(), updated.mean());
+        assertEquals(rebuilt.percentile(50), updated.percentile(50));
+        assertEquals(rebuilt.byTitle(), updated.byTitle());
+    }
+
+    @Test
+    void of_shouldReturnZerosForEmptyRoster() {
+        // Act
+        SalaryStatistics statistics = SalaryStatistics.of(List.of());
+
+        // Assert
+        assertEquals(0, statistics.max());
+        assertEquals(0, statistics.percentile(50));
+        assertTrue(statistics.histogram(10).isEmpty());
+        assertTrue(statistics.byTitle().isEmpty());
+    }
+
+    private static Employee employee(String title, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + salary)
+                .salary(salary)
+                .age(30)
+                .title(title)
+                .email("employee" + salary + "@company.com")
+                .build();
+    }
+}
@@ -4,10 +4,28 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.BulkheadProperties;
+import com.reliaquest.api.config.PeerProperties;
+import com.reliaquest.api.config.SchedulerProperties;
+import com.reliaquest.api.config.SearchCacheProperties;
 import com.reliaquest.api.dto.CreateEmployeeInput;
 import com.reliaquest.api.dto.EmployeeApiResponse;
 import com.reliaquest.api.dto.MockEmployeeDto;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.peer.PeerBroadcaster;
+import com.reliaquest.api.peer.PeerSnapshotClient;
+import com.reliaquest.api.roster.EmployeeRoster;
+import com.reliaquest.api.roster.NameSearchCache;
+import com.reliaquest.api.roster.RosterChangeFeedSubscriber;
+import com.reliaquest.api.upstream.UpstreamBudget;
+import com.reliaquest.api.upstream.UpstreamGateway;
+import com.reliaquest.api.upstream.UpstreamReplica;
+import com.reliaquest.api.upstream.UpstreamReplicaSet;
+import com.reliaquest.api.upstream.UpstreamScheduler;
+import com.reliaquest.api.upstream.UpstreamShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +33,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClient;
 
@@ -41,8 +61,28 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
-        employeeService = new EmployeeService("http://localhost:8112", null);
-        ReflectionTestUtils.setField(employeeService, "restClient", restClient);
+        BulkheadProperties.Limits limits = new BulkheadProperties.Limits(4, 16, Duration.ofSeconds(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UpstreamScheduler scheduler = new UpstreamScheduler(
+                new SchedulerProperties(4, 1, Duration.ofSeconds(2), Duration.ofSeconds(30), Duration.ofSeconds(10)),
+                meterRegistry);
+        UpstreamGateway upstreamGateway =
+                new UpstreamGateway(new BulkheadProperties(limits, limits, limits), scheduler, meterRegistry);
+        UpstreamReplica replica = new UpstreamReplica("test", restClient, new UpstreamBudget(Duration.ofSeconds(30)));
+        UpstreamShards shards =
+                new UpstreamShards(List.of(new UpstreamReplicaSet(List.of(replica), Duration.ofSeconds(30))));
+        PeerProperties peerProperties =
+                new PeerProperties(List.of(), null, Duration.ofSeconds(2), Duration.ofMinutes(5), 256);
+        PeerBroadcaster peers = new PeerBroadcaster(peerProperties, new ObjectMapper());
+        employeeService = new EmployeeService(
+                shards,
+                null,
+                upstreamGateway,
+                new EmployeeRoster(),
+                peers,
+                new PeerSnapshotClient(peerProperties),
+                new NameSearchCache(new SearchCacheProperties(16), meterRegistry),
+                new StaticListableBeanFactory().getBeanProvider(RosterChangeFeedSubscriber.class));
         ReflectionTestUtils.setField(employeeService, "self", employeeService);
     }
 
@@ -66,7 +106,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<Employee> employees = employeeService.getAllEmployees();
@@ -92,7 +132,8 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(null);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok().build());
 
         // Act
         List<Employee> employees = employeeService.getAllEmployees();
@@ -112,7 +153,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<Employee> employees = employeeService.getAllEmployees();
@@ -148,7 +189,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<Employee> employees = employeeService.getAllEmployees();
@@ -184,7 +225,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<Employee> result = employeeService.searchEmployeesByName("john");
@@ -211,7 +252,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<Employee> result = employeeService.searchEmployeesByName("JOHN");
@@ -238,7 +279,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<Employee> result = employeeService.searchEmployeesByName("nonexistent");
@@ -321,7 +362,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         Integer result = employeeService.getHighestSalaryOfEmployees();
@@ -339,7 +380,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         Integer result = employeeService.getHighestSalaryOfEmployees();
@@ -372,7 +413,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -395,7 +436,7 @@ class EmployeeServiceTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(apiResponse);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(ResponseEntity.ok(apiResponse));
 
         // Act
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
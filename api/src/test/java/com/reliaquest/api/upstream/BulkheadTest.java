@@ -0,0 +1,116 @@
+package com.reliaquest.api.upstream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldReturnCallResult() {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(1, 0, Duration.ZERO);
+
+        // Act
+        String result = bulkhead.execute(() -> "ok");
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(0, bulkhead.activeCount());
+    }
+
+    @Test
+    void execute_shouldRejectWhenConcurrencyAndQueueAreExhausted() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(1, 0, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocker = executor.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        UpstreamRejectedException exception =
+                assertThrows(UpstreamRejectedException.class, () -> bulkhead.execute(() -> "rejected"));
+        assertEquals(UpstreamCallType.WRITE, exception.getCallType());
+        assertEquals(1, bulkhead.rejectedCount());
+
+        release.countDown();
+        assertEquals("done", blocker.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_shouldRejectQueuedCallAfterMaxWait() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(1, 1, Duration.ofMillis(20));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(UpstreamRejectedException.class, () -> bulkhead.execute(() -> "late"));
+        assertEquals(1, bulkhead.rejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    void execute_shouldAdmitQueuedCallOncePermitIsReleased() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Future<String> queued = executor.submit(() -> bulkhead.execute(() -> "queued"));
+        release.countDown();
+
+        // Assert
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.rejectedCount());
+    }
+
+    private Bulkhead bulkhead(int maxConcurrent, int maxQueue, Duration maxWait) {
+        return new Bulkhead(
+                UpstreamCallType.WRITE,
+                new BulkheadProperties.Limits(maxConcurrent, maxQueue, maxWait),
+                new SimpleMeterRegistry());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
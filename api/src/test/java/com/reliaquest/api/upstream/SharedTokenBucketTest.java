@@ -0,0 +1,74 @@
+package com.reliaquest.api.upstream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SharedTokenBucketTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void reserve_shouldShareOneBudgetBetweenMappings() throws Exception {
+        // Arrange
+        Path file = directory.resolve("budget.bin");
+        SharedTokenBucket first = new SharedTokenBucket(file, 3, Duration.ofSeconds(3), clock::get);
+        SharedTokenBucket second = new SharedTokenBucket(file, 3, Duration.ofSeconds(3), clock::get);
+
+        // Act
+        long a = first.reserve(Duration.ZERO);
+        long b = second.reserve(Duration.ZERO);
+        long c = first.reserve(Duration.ZERO);
+        long d = second.reserve(Duration.ZERO);
+
+        // Assert
+        assertEquals(0, a);
+        assertEquals(0, b);
+        assertEquals(0, c);
+        assertEquals(-1, d);
+        assertEquals(1_000_000, second.waitMicros());
+    }
+
+    @Test
+    void reserve_shouldQueueCallersWithinMaxWait() throws Exception {
+        // Arrange
+        SharedTokenBucket bucket =
+                new SharedTokenBucket(directory.resolve("budget.bin"), 1, Duration.ofSeconds(1), clock::get);
+        bucket.reserve(Duration.ZERO);
+
+        // Act
+        long firstWait = bucket.reserve(Duration.ofSeconds(2));
+        long secondWait = bucket.reserve(Duration.ofSeconds(2));
+        long refused = bucket.reserve(Duration.ofSeconds(2));
+
+        // Assert
+        assertEquals(1_000_000, firstWait);
+        assertEquals(2_000_000, secondWait);
+        assertEquals(-1, refused);
+    }
+
+    @Test
+    void reserve_shouldRefillOverTime() throws Exception {
+        // Arrange
+        SharedTokenBucket bucket =
+                new SharedTokenBucket(directory.resolve("budget.bin"), 2, Duration.ofSeconds(2), clock::get);
+        bucket.reserve(Duration.ZERO);
+        bucket.reserve(Duration.ZERO);
+
+        // Act
+        long exhausted = bucket.reserve(Duration.ZERO);
+        clock.addAndGet(1_000_000);
+        long refilled = bucket.reserve(Duration.ZERO);
+
+        // Assert
+        assertEquals(-1, exhausted);
+        assertEquals(0, refilled);
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.api.upstream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+class UpstreamReplicaSetTest {
+
+    @TempDir
+    Path directory;
+
+    private final RestClient first = mock(RestClient.class);
+    private final RestClient second = mock(RestClient.class);
+    private final UpstreamBudget firstBudget = new UpstreamBudget(Duration.ofSeconds(30));
+    private final UpstreamBudget secondBudget = new UpstreamBudget(Duration.ofSeconds(30));
+    private final UpstreamReplicaSet replicas = new UpstreamReplicaSet(
+            List.of(
+                    new UpstreamReplica("first", first, firstBudget),
+                    new UpstreamReplica("second", second, secondBudget)),
+            Duration.ofSeconds(30));
+
+    @Test
+    void call_shouldFailOverAndEjectThrottledReplica() {
+        // Arrange
+        List<RestClient> calls = new ArrayList<>();
+
+        // Act
+        RestClient served = replicas.call(client -> {
+            calls.add(client);
+            if (client == first) {
+                throw tooManyRequests("60");
+            }
+            return client;
+        });
+        RestClient next = replicas.call(client -> {
+            calls.add(client);
+            return client;
+        });
+
+        // Assert
+        assertSame(second, served);
+        assertSame(second, next);
+        assertEquals(List.of(first, second, second), calls);
+    }
+
+    @Test
+    void call_shouldRethrowWhenEveryReplicaIsThrottled() {
+        // Act & Assert
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class,
+                () -> replicas.call(client -> {
+                    throw tooManyRequests("60");
+                }));
+    }
+
+    @Test
+    void call_shouldPreferReplicaWithMoreBudget() {
+        // Arrange
+        firstBudget.record(0, System.nanoTime());
+        secondBudget.record(8, System.nanoTime());
+        List<RestClient> timed = List.of(replicas.call(this::slowCall), replicas.call(this::slowCall));
+
+        // Act
+        RestClient chosen = replicas.call(client -> client);
+
+        // Assert
+        assertEquals(List.of(first, second), timed);
+        assertSame(second, chosen);
+    }
+
+    @Test
+    void write_shouldOnlyUsePrimaryEvenWhenItIsThrottled() {
+        // Arrange
+        List<RestClient> calls = new ArrayList<>();
+
+        // Act & Assert
+        assertSame(first, replicas.write(client -> client));
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class,
+                () -> replicas.write(client -> {
+                    calls.add(client);
+                    throw tooManyRequests("60");
+                }));
+        assertEquals(List.of(first), calls);
+    }
+
+    @Test
+    void call_shouldAskPrimaryWhenReadReplicaAnswersNotFound() {
+        // Arrange
+        replicas.call(client -> {
+            if (client == first) {
+                throw tooManyRequests("60");
+            }
+            return client;
+        });
+        List<RestClient> calls = new ArrayList<>();
+
+        // Act
+        RestClient served = replicas.call(client -> {
+            calls.add(client);
+            if (client == second) {
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null);
+            }
+            return client;
+        });
+
+        // Assert
+        assertSame(first, served);
+        assertEquals(List.of(second, first), calls);
+    }
+
+    @Test
+    void call_shouldNotEjectReplicaWhenSharedBudgetIsExhaustedLocally() throws Exception {
+        // Arrange
+        UpstreamReplica shared = new UpstreamReplica(
+                "shared",
+                first,
+                firstBudget,
+                new SharedTokenBucket(directory.resolve("budget.bin"), 1, Duration.ofSeconds(60)),
+                Duration.ZERO);
+        UpstreamReplicaSet set = new UpstreamReplicaSet(List.of(shared), Duration.ofSeconds(30));
+        set.call(client -> client);
+
+        // Act
+        HttpClientErrorException thrown =
+                assertThrows(HttpClientErrorException.TooManyRequests.class, () -> set.call(client -> client));
+
+        // Assert
+        assertTrue(UpstreamReplica.isSharedBudgetExhausted(thrown));
+        assertFalse(shared.isEjected(System.nanoTime()));
+    }
+
+    private RestClient slowCall(RestClient client) {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return client;
+    }
+
+    private static HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, null, null);
+    }
+}
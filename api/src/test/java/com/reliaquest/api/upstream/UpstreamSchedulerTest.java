@@ -0,0 +1,161 @@
+package com.reliaquest.api.upstream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.SchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class UpstreamSchedulerTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldGrantWaitingUserCallBeforeBackgroundCall() throws Exception {
+        // Arrange
+        UpstreamScheduler scheduler = scheduler(1, 0, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        occupySlot(scheduler, release);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        Future<?> background = executor.submit(() ->
+                scheduler.execute(UpstreamCallType.READ, UpstreamPriority.BACKGROUND, () -> order.add("background")));
+        awaitQueued(scheduler, 1);
+        Future<?> user = executor.submit(() ->
+                scheduler.execute(UpstreamCallType.LOOKUP, UpstreamPriority.USER_CRITICAL, () -> order.add("user")));
+        awaitQueued(scheduler, 2);
+
+        // Act
+        release.countDown();
+        user.get(5, TimeUnit.SECONDS);
+        background.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("user", "background"), order);
+    }
+
+    @Test
+    void execute_shouldKeepReservedSlotsAwayFromBackgroundCalls() throws Exception {
+        // Arrange
+        UpstreamScheduler scheduler = scheduler(2, 1, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        occupySlot(scheduler, release);
+
+        // Act & Assert
+        assertThrows(
+                UpstreamRejectedException.class,
+                () -> scheduler.execute(UpstreamCallType.READ, UpstreamPriority.BACKGROUND, () -> "background"));
+        assertEquals("user", scheduler.execute(UpstreamCallType.READ, UpstreamPriority.USER, () -> "user"));
+        assertEquals(1, scheduler.droppedCount(UpstreamPriority.BACKGROUND));
+        release.countDown();
+    }
+
+    @Test
+    void execute_shouldDropCallWhoseDeadlinePassesWhileQueued() throws Exception {
+        // Arrange
+        UpstreamScheduler scheduler = scheduler(1, 0, Duration.ofMillis(30));
+        CountDownLatch release = new CountDownLatch(1);
+        occupySlot(scheduler, release);
+
+        // Act & Assert
+        assertThrows(
+                UpstreamRejectedException.class,
+                () -> scheduler.execute(UpstreamCallType.WRITE, UpstreamPriority.USER_CRITICAL, () -> "late"));
+        assertEquals(1, scheduler.droppedCount(UpstreamPriority.USER_CRITICAL));
+        assertEquals(0, scheduler.queuedCount());
+        release.countDown();
+    }
+
+    private void occupySlot(UpstreamScheduler scheduler, CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> scheduler.execute(UpstreamCallType.READ, UpstreamPriority.USER, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_shouldForgetCallersOnceTheirGrantsDecayUnderSustainedLoad() throws Exception {
+        // Arrange
+        UpstreamScheduler scheduler = scheduler(2, 0, Duration.ofSeconds(5), Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        occupySlot(scheduler, release);
+        for (int i = 0; i < 50; i++) {
+            asCaller("10.0.0." + i, () -> scheduler.execute(UpstreamCallType.READ, UpstreamPriority.USER, () -> "ok"));
+        }
+        int tracked = scheduler.trackedCallerCount();
+
+        // Act
+        Thread.sleep(450);
+        scheduler.execute(UpstreamCallType.READ, UpstreamPriority.USER, () -> "ok");
+
+        // Assert
+        assertTrue(tracked >= 50, "tracked " + tracked);
+        assertTrue(scheduler.trackedCallerCount() <= 2, "tracked " + scheduler.trackedCallerCount());
+        release.countDown();
+    }
+
+    @Test
+    void runAs_shouldDispatchCallsAtTheOverridePriority() {
+        // Act
+        UpstreamPriority inside =
+                UpstreamPriority.runAs(UpstreamPriority.BACKGROUND, () -> UpstreamPriority.of(UpstreamCallType.LOOKUP));
+
+        // Assert
+        assertEquals(UpstreamPriority.BACKGROUND, inside);
+        assertEquals(UpstreamPriority.USER_CRITICAL, UpstreamPriority.of(UpstreamCallType.LOOKUP));
+    }
+
+    private static void awaitQueued(UpstreamScheduler scheduler, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.queuedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, scheduler.queuedCount());
+    }
+
+    private static UpstreamScheduler scheduler(int slots, int reservedUserSlots, Duration deadline) {
+        return scheduler(slots, reservedUserSlots, deadline, Duration.ofSeconds(10));
+    }
+
+    private static UpstreamScheduler scheduler(
+            int slots, int reservedUserSlots, Duration deadline, Duration fairnessWindow) {
+        return new UpstreamScheduler(
+                new SchedulerProperties(slots, reservedUserSlots, deadline, deadline, fairnessWindow),
+                new SimpleMeterRegistry());
+    }
+
+    private static void asCaller(String address, Runnable call) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            call.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.upstream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+class UpstreamShardsTest {
+
+    private final List<UpstreamReplicaSet> shardList = List.of(shard(), shard(), shard());
+    private final UpstreamShards shards = new UpstreamShards(shardList);
+
+    @AfterEach
+    void tearDown() {
+        shards.close();
+    }
+
+    @Test
+    void owner_shouldRouteByIdHash() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        UpstreamReplicaSet owner = shards.owner(id.toString());
+
+        // Assert
+        assertSame(shardList.get(Math.floorMod(id.hashCode(), 3)), owner);
+    }
+
+    @Test
+    void nextForCreate_shouldRotateThroughShards() {
+        // Act
+        List<UpstreamReplicaSet> targets =
+                List.of(shards.nextForCreate(), shards.nextForCreate(), shards.nextForCreate(), shards.nextForCreate());
+
+        // Assert
+        assertEquals(List.of(shardList.get(0), shardList.get(1), shardList.get(2), shardList.get(0)), targets);
+    }
+
+    @Test
+    void scatter_shouldReturnResultsInShardOrder() {
+        // Act
+        List<Integer> results = shards.scatter(shardList::indexOf);
+
+        // Assert
+        assertEquals(List.of(0, 1, 2), results);
+    }
+
+    @Test
+    void scatter_shouldRethrowShardFailureUnwrapped() {
+        // Arrange
+        UpstreamReplicaSet failing = shardList.get(1);
+
+        // Act & Assert
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class,
+                () -> shards.scatter(shard -> {
+                    if (shard == failing) {
+                        throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+                    }
+                    return shard;
+                }));
+    }
+
+    @Test
+    void owner_shouldSkipParsingWithSingleShard() {
+        // Arrange
+        UpstreamReplicaSet only = shard();
+        UpstreamShards single = new UpstreamShards(List.of(only));
+
+        // Act & Assert
+        assertSame(only, single.owner("not-a-uuid"));
+    }
+
+    private static UpstreamReplicaSet shard() {
+        UpstreamReplica replica =
+                new UpstreamReplica("replica", mock(RestClient.class), new UpstreamBudget(Duration.ofSeconds(30)));
+        return new UpstreamReplicaSet(List.of(replica), Duration.ofSeconds(30));
+    }
+}
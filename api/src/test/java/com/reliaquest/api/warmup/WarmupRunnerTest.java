@@ -0,0 +1,108 @@
+package com.reliaquest.api.warmup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.WarmupProperties;
+import com.reliaquest.api.controller.EmployeeAnalyticsController;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.controller.EmployeeQueryController;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+class WarmupRunnerTest {
+
+    private ApplicationEventPublisher eventPublisher;
+    private LoggingSystem loggingSystem;
+    private EmployeeService employeeService;
+    private EmployeeController employeeController;
+    private EmployeeQueryController queryController;
+    private EmployeeAnalyticsController analyticsController;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        loggingSystem = mock(LoggingSystem.class);
+        employeeService = mock(EmployeeService.class);
+        employeeController = mock(EmployeeController.class);
+        queryController = mock(EmployeeQueryController.class);
+        analyticsController = mock(EmployeeAnalyticsController.class);
+    }
+
+    @Test
+    void run_shouldReplayRequestsBetweenRefusingAndAcceptingTraffic() {
+        // Arrange
+        Employee employee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(75000)
+                .age(30)
+                .title("Engineer")
+                .build();
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee));
+        WarmupRunner runner = runner(Duration.ofSeconds(30));
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(
+                List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), publishedReadinessStates());
+        verify(employeeController, atLeastOnce()).getEmployeesByNameSearch("Joh");
+        verify(queryController, atLeastOnce()).getSalaryRank(employee.getId().toString());
+        verify(analyticsController, atLeastOnce()).getSalaryStatsByTitle();
+        verify(loggingSystem).setLogLevel("com.reliaquest.api.controller", LogLevel.WARN);
+        verify(loggingSystem).setLogLevel("com.reliaquest.api.controller", null);
+    }
+
+    @Test
+    void run_shouldBecomeReadyWithoutReplayWhenRosterIsUnavailable() {
+        // Arrange
+        when(employeeService.getAllEmployees()).thenThrow(new IllegalStateException("upstream down"));
+        WarmupRunner runner = runner(Duration.ZERO);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(
+                List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), publishedReadinessStates());
+        verifyNoInteractions(employeeController, queryController, analyticsController);
+        verify(loggingSystem, never()).setLogLevel(anyString(), any());
+    }
+
+    private WarmupRunner runner(Duration maxDuration) {
+        return new WarmupRunner(
+                new WarmupProperties(true, maxDuration, 24, 1, 1, Duration.ofDays(1)),
+                eventPublisher,
+                loggingSystem,
+                employeeService,
+                employeeController,
+                queryController,
+                analyticsController);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ReadinessState> publishedReadinessStates() {
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .map(event -> ((AvailabilityChangeEvent<ReadinessState>) event).getState())
+                .toList();
+    }
+}
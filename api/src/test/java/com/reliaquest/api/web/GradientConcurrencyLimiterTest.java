@@ -0,0 +1,91 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long FAST = 10_000_000L;
+
+    @Test
+    void release_shouldShrinkLimitWhenLatencyRises() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(40, 4, 200, 10, 1.5);
+        saturatedWindow(limiter, 10, FAST);
+        int before = limiter.limit();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            saturatedWindow(limiter, 10, FAST * 10);
+        }
+
+        // Assert
+        assertTrue(limiter.limit() < before, "limit " + limiter.limit() + " should fall below " + before);
+        assertTrue(limiter.limit() >= 4);
+    }
+
+    @Test
+    void release_shouldGrowLimitWhileSaturatedAtSteadyLatency() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 4, 200, 10, 1.5);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            saturatedWindow(limiter, 10, FAST);
+        }
+
+        // Assert
+        assertTrue(limiter.limit() > 10, "limit " + limiter.limit() + " should grow");
+    }
+
+    @Test
+    void release_shouldNotGrowLimitWhenUnderused() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 10, 1.5);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+            limiter.release(FAST);
+        }
+
+        // Assert
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void tryAcquire_shouldShedLowPriorityBeforeHigh() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 4, 200, 10, 1.5);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(InboundPriority.LOW.share()));
+        }
+
+        // Act & Assert
+        assertFalse(limiter.tryAcquire(InboundPriority.LOW.share()));
+        assertTrue(limiter.tryAcquire(InboundPriority.NORMAL.share()));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(InboundPriority.HIGH.share()));
+        }
+        assertFalse(limiter.tryAcquire(InboundPriority.HIGH.share()));
+        assertEquals(10, limiter.inFlight());
+    }
+
+    /**
+     * Fills the limit, then completes every request with the given latency.
+     */
+    private static void saturatedWindow(GradientConcurrencyLimiter limiter, int samples, long rttNanos) {
+        int admitted = 0;
+        while (admitted < samples && limiter.tryAcquire(1.0)) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(rttNanos);
+        }
+        for (int i = admitted; i < samples; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+            limiter.release(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.controller.EmployeeAnalyticsController;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.controller.EmployeeQueryController;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+class InboundConcurrencyLimitInterceptorTest {
+
+    @Test
+    void priorityOf_shouldKeepEveryCachedReadHighAndWritesLow() {
+        // Arrange
+        Set<String> writes = Set.of("createEmployee", "deleteEmployeeById");
+        Map<String, InboundPriority> priorities = new TreeMap<>();
+
+        // Act
+        for (Class<?> controller :
+                List.of(EmployeeController.class, EmployeeQueryController.class, EmployeeAnalyticsController.class)) {
+            for (Method method : controller.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers())) {
+                    priorities.put(
+                            method.getName(),
+                            InboundConcurrencyLimitInterceptor.priorityOf(new HandlerMethod(mock(controller), method)));
+                }
+            }
+        }
+
+        // Assert
+        assertTrue(priorities.keySet().containsAll(List.of("getTopEarners", "getSalaryRank", "filterEmployees")));
+        priorities.forEach((name, priority) ->
+                assertEquals(writes.contains(name) ? InboundPriority.LOW : InboundPriority.HIGH, priority, name));
+    }
+
+    @Test
+    void priorityOf_shouldDefaultToNormalWithoutAnnotation() throws Exception {
+        // Arrange
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+
+        // Act & Assert
+        assertEquals(InboundPriority.NORMAL, InboundConcurrencyLimitInterceptor.priorityOf(handler));
+    }
+}
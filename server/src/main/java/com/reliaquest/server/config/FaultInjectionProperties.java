@@ -0,0 +1,11 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.FaultProfile;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * Startup fault profile. It can be replaced or switched off at runtime through /admin/faults.
+ */
+@ConfigurationProperties("mock.faults")
+public record FaultInjectionProperties(@DefaultValue("false") boolean enabled, FaultProfile profile) {}
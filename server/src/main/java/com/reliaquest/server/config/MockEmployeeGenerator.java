@@ -0,0 +1,74 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/*
+ * Generates the initial roster in fixed-size chunks. Each chunk owns its own Faker and Random, seeded by mixing the
+ * roster seed and the chunk number, so chunks can run on any thread in any order and a given seed and size always yield
+ * the same employees, ids included.
+ */
+final class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 8192;
+
+    private final Locale locale;
+    private final long seed;
+
+    MockEmployeeGenerator(Locale locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+    }
+
+    List<MockEmployee> generate(int count, boolean parallel) {
+        final var employees = new MockEmployee[Math.max(0, count)];
+        final int chunks = (employees.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var stream = IntStream.range(0, chunks);
+        (parallel ? stream.parallel() : stream).forEach(chunk -> fill(employees, chunk));
+        return Arrays.asList(employees);
+    }
+
+    private void fill(MockEmployee[] employees, int chunk) {
+        final var random = new Random(chunkSeed(seed, chunk));
+        final var faker = new Faker(locale, random);
+        final int end = Math.min(employees.length, (chunk + 1) * CHUNK_SIZE);
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            employees[i] = MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build();
+        }
+    }
+
+    /*
+     * Mixes the roster seed and chunk number into an independent 64-bit seed (golden-ratio step, then the murmur3
+     * finaliser). A plain {@code seed ^ chunk} made chunk 1 of one seed repeat chunk 0 of the next seed, and
+     * java.util.Random only keeps the low 48 bits of whatever it is given.
+     */
+    static long chunkSeed(long seed, int chunk) {
+        long z = seed * 0x9E3779B97F4A7C15L + chunk;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    /*
+     * Version 4 (random) UUID drawn from the seeded generator instead of SecureRandom.
+     */
+    private static UUID randomUuid(Random random) {
+        final long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+}
@@ -0,0 +1,14 @@
+package com.reliaquest.server.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("mock.persistence")
+public record PersistenceProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data") Path directory,
+        @DefaultValue("true") boolean fsync,
+        @DefaultValue("512") int maxBatch,
+        @DefaultValue("5m") Duration checkpointInterval) {}
@@ -0,0 +1,47 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * Unset capacity or refill period are drawn at startup from the historical ranges (5-9 requests per 30-89 seconds),
+ * from the given seed when there is one so that runs are reproducible.
+ */
+@ConfigurationProperties("mock.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        Integer capacity,
+        Duration refillPeriod,
+        Long seed,
+        @DefaultValue("false") boolean perClient,
+        @DefaultValue List<EndpointQuota> endpoints) {
+
+    public RateLimitProperties {
+        if (capacity != null && capacity < 1) {
+            throw new IllegalArgumentException("mock.rate-limit.capacity must be positive");
+        }
+        if (refillPeriod != null && !isPositive(refillPeriod)) {
+            throw new IllegalArgumentException("mock.rate-limit.refill-period must be positive");
+        }
+    }
+
+    /*
+     * Quota for requests matching an Ant-style path and, optionally, an HTTP method. The first matching quota replaces
+     * the default one.
+     */
+    public record EndpointQuota(String method, String path, int capacity, Duration refillPeriod) {
+
+        public EndpointQuota {
+            if (path == null || capacity < 1 || refillPeriod == null || !isPositive(refillPeriod)) {
+                throw new IllegalArgumentException(
+                        "mock.rate-limit.endpoints need a path, a positive capacity and a positive refill-period");
+            }
+        }
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return !duration.isNegative() && !duration.isZero();
+    }
+}
@@ -1,19 +1,21 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.reliaquest.server.persistence.WriteAheadLog;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.io.IOException;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.Random;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,39 +23,75 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({
+    RateLimitProperties.class,
+    FaultInjectionProperties.class,
+    PersistenceProperties.class,
+    ShardProperties.class
+})
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final RateLimitProperties rateLimitProperties;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+    public WriteAheadLog writeAheadLog(PersistenceProperties persistenceProperties) throws IOException {
+        return new WriteAheadLog(persistenceProperties);
+    }
+
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. With persistence enabled an existing checkpoint and log
+     * take precedence over generation. Without a configured seed a random one is chosen and logged, so any roster can
+     * be reproduced by passing that seed back in. A shard generates the full roster and keeps only the employees it
+     * owns, so shards started with the same seed together hold exactly the unsharded roster.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            EmployeeChangeLog changeLog,
+            Optional<WriteAheadLog> writeAheadLog,
+            ShardProperties shard,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.parallel:false}") boolean parallel)
+            throws IOException {
+        final var store = new MockEmployeeStore(
+                changeLog, writeAheadLog.<EmployeeJournal>map(wal -> wal).orElse(EmployeeJournal.NONE));
+        if (writeAheadLog.isPresent() && writeAheadLog.get().recover(store, changeLog)) {
+            return store;
+        }
+
+        final long rosterSeed = seed != null ? seed : new Random().nextLong();
+        final long started = System.nanoTime();
+        var employees = new MockEmployeeGenerator(Locale.getDefault(), rosterSeed).generate(maxEmployees, parallel);
+        if (shard.sharded()) {
+            employees = employees.stream()
+                    .filter(employee -> shard.owns(employee.getId()))
+                    .toList();
+        }
+        store.seed(employees);
+        log.info(
+                "Generated {} employees with seed {} in {} ms{}{}",
+                employees.size(),
+                rosterSeed,
+                (System.nanoTime() - started) / 1_000_000,
+                parallel ? " (parallel)" : "",
+                shard.sharded() ? " for shard %d of %d".formatted(shard.index(), shard.count()) : "");
+        return store;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitProperties.enabled()) {
+            registry.addInterceptor(new TokenBucketRequestLimitInterceptor(rateLimitProperties))
+                    .excludePathPatterns(FaultInjectionFilter.ADMIN_PATH_PREFIX + "**");
+        }
     }
 }
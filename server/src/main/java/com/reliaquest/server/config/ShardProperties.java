@@ -0,0 +1,28 @@
+package com.reliaquest.server.config;
+
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * Which partition of the roster this instance holds when several instances serve one roster. An employee belongs to
+ * shard floorMod(id.hashCode(), count); the api routes by the same function, so both sides must agree on count and
+ * on the order of the shards.
+ */
+@ConfigurationProperties("mock.shard")
+public record ShardProperties(@DefaultValue("0") int index, @DefaultValue("1") int count) {
+
+    public ShardProperties {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("mock.shard.index must be in [0, mock.shard.count)");
+        }
+    }
+
+    public boolean sharded() {
+        return count > 1;
+    }
+
+    public boolean owns(UUID id) {
+        return Math.floorMod(id.hashCode(), count) == index;
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.ChangeSet;
+import com.reliaquest.server.model.EmployeeChange;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * One change stream subscriber. The change log hands it the backlog and each new change while holding its monitor
+ * (and the store's write lock), so both are only queued here; the network writes happen on the sender executor. The
+ * queue is bounded: a subscriber that falls that far behind is disconnected and resumes from its Last-Event-ID.
+ */
+@Slf4j
+final class ChangeStreamSubscription implements Consumer<EmployeeChange> {
+
+    private final SseEmitter emitter;
+    private final Executor sender;
+    private final int capacity;
+    private final BlockingQueue<EmployeeChange> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile ChangeSet backlog;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private volatile boolean closed;
+
+    ChangeStreamSubscription(SseEmitter emitter, Executor sender, int capacity) {
+        this.emitter = emitter;
+        this.sender = sender;
+        this.capacity = Math.max(1, capacity);
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+    }
+
+    void backlog(ChangeSet backlog) {
+        this.backlog = backlog;
+        schedule();
+    }
+
+    @Override
+    public void accept(EmployeeChange change) {
+        if (closed) {
+            return;
+        }
+        if (queue.offer(change)) {
+            schedule();
+        } else if (overflowed.compareAndSet(false, true)) {
+            closed = true;
+            queue.clear();
+            sender.execute(this::disconnect);
+        }
+    }
+
+    void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    private void schedule() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                final var pendingBacklog = backlog;
+                if (pendingBacklog != null) {
+                    backlog = null;
+                    sendBacklog(pendingBacklog);
+                    continue;
+                }
+                final var change = queue.poll();
+                if (change == null) {
+                    break;
+                }
+                emitter.send(event(change));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping change stream subscriber", e);
+            closed = true;
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && (backlog != null || !queue.isEmpty())) {
+            schedule();
+        }
+    }
+
+    private void disconnect() {
+        log.info("Disconnecting change stream subscriber that fell over {} changes behind", capacity);
+        emitter.complete();
+    }
+
+    private void sendBacklog(ChangeSet backlog) throws IOException {
+        if (backlog.reset()) {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(backlog.version()))
+                    .name("reset")
+                    .data(Map.of("version", backlog.version()), MediaType.APPLICATION_JSON));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(backlog.since()))
+                .name("sync")
+                .data(Map.of("version", backlog.since()), MediaType.APPLICATION_JSON));
+        for (EmployeeChange change : backlog.changes()) {
+            emitter.send(event(change));
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(EmployeeChange change) {
+        return SseEmitter.event()
+                .id(Long.toString(change.version()))
+                .name("change")
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultInjectionAdminController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping()
+    public Response<FaultProfile> getProfile() {
+        return faultInjector.active().map(Response::handledWith).orElseGet(Response::handled);
+    }
+
+    @PutMapping()
+    public Response<FaultProfile> putProfile(@RequestBody FaultProfile profile) {
+        faultInjector.activate(profile);
+        return Response.handledWith(profile);
+    }
+
+    @DeleteMapping()
+    public Response<Boolean> deleteProfile() {
+        final var wasActive = faultInjector.active().isPresent();
+        faultInjector.deactivate();
+        return Response.handledWith(wasActive);
+    }
+
+    /*
+     * Profiles are validated as they are deserialised, so an invalid one surfaces as an unreadable body.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Response<FaultProfile>> handleInvalidProfile(HttpMessageNotReadableException e) {
+        return ResponseEntity.badRequest()
+                .body(Response.error(
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.ChangeSet;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/employee/changes")
+public class MockEmployeeChangeController {
+
+    private static final long STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+
+    private final EmployeeChangeLog changeLog;
+    private final int subscriberQueue;
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable, "change-stream-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MockEmployeeChangeController(
+            EmployeeChangeLog changeLog, @Value("${mock.changes.subscriber-queue:1024}") int subscriberQueue) {
+        this.changeLog = changeLog;
+        this.subscriberQueue = subscriberQueue;
+    }
+
+    @GetMapping()
+    public Response<ChangeSet> getChanges(@RequestParam("since") long since) {
+        return Response.handledWith(changeLog.since(since));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        final var emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        final var subscription = new ChangeStreamSubscription(emitter, sender, subscriberQueue);
+        final Runnable unsubscribe = () -> {
+            subscription.close();
+            changeLog.unsubscribe(subscription);
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ignored -> unsubscribe.run());
+
+        changeLog.subscribe(
+                lastEventId != null ? lastEventId : since != null ? since : -1L, subscription::backlog, subscription);
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+}
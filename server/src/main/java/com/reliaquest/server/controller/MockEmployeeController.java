@@ -1,34 +1,136 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.model.BatchCreateMockEmployeeInput;
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
 import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/v1/employee")
-@RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    public static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private static final int FLUSH_EVERY_ROWS = 1024;
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeLog changeLog;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper smileMapper;
+    private final ObjectWriter smileRowWriter;
+
+    public MockEmployeeController(
+            MockEmployeeService mockEmployeeService, EmployeeChangeLog changeLog, ObjectMapper objectMapper) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.changeLog = changeLog;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(MockEmployee.class);
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.smileRowWriter = smileMapper.writerFor(MockEmployee.class);
+    }
 
+    /*
+     * The version is read before the list, so a change racing with this request is at worst delivered again by the
+     * change feed, never skipped. Rows are streamed straight from the store snapshot through a JsonGenerator, so only
+     * the generator's and the connector's buffers are ever held, whatever the roster size. Clients that prefer Smile
+     * get the same document in that binary encoding.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public void getEmployees(
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response)
+            throws IOException {
+        if (offset < 0 || (limit != null && limit < 0)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(
+                    response.getOutputStream(), Response.error("offset and limit must not be negative"));
+            return;
+        }
+
+        final var version = changeLog.version();
+        final var employees = mockEmployeeService.getMockEmployees();
+        final int from = Math.min(offset, employees.size());
+        final int to = limit == null ? employees.size() : (int) Math.min(employees.size(), (long) from + limit);
+
+        final boolean smile = prefersSmile(accept);
+        final var mapper = smile ? smileMapper : objectMapper;
+        final var writer = smile ? smileRowWriter : rowWriter;
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(smile ? SMILE.toString() : MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(ROSTER_VERSION_HEADER, Long.toString(version));
+        response.setHeader(TOTAL_COUNT_HEADER, Integer.toString(employees.size()));
+        try (final var generator = mapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (int i = from; i < to; i++) {
+                writer.writeValue(generator, employees.get(i));
+                if ((i - from + 1) % FLUSH_EVERY_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeObjectField("status", Response.Status.HANDLED);
+            generator.writeEndObject();
+        }
+    }
+
+    private static boolean prefersSmile(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        final var mediaTypes = MediaType.parseMediaTypes(accept);
+        mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (final var mediaType : mediaTypes) {
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return true;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+        }
+        return false;
     }
 
     @GetMapping("/{id}")
@@ -48,4 +150,29 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Batch endpoints apply every item against the store at once and count as a single request for rate limiting.
+     */
+    @PostMapping("/batch")
+    public Response<List<BatchItemResult>> createEmployees(@Valid @RequestBody BatchCreateMockEmployeeInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input));
+    }
+
+    @DeleteMapping("/batch")
+    public Response<List<BatchItemResult>> deleteEmployees(@Valid @RequestBody BatchDeleteMockEmployeeInput input) {
+        return Response.handledWith(mockEmployeeService.deleteAll(input));
+    }
+
+    /*
+     * Bodies that fail bean validation, such as a batch over the item limit or with an invalid item, are rejected as a
+     * whole with 400 instead of reaching the catch-all advice as a 500.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<Response<Object>> handleInvalidInput(MethodArgumentNotValidException e) {
+        final var message = e.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.badRequest().body(Response.error(message));
+    }
 }
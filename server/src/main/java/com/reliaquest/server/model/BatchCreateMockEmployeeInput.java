@@ -0,0 +1,15 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BatchCreateMockEmployeeInput {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid CreateMockEmployeeInput> employees;
+}
@@ -0,0 +1,18 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/*
+ * Outcome of one item of a batch request, reported at the item's position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, boolean success, MockEmployee employee, String error) {
+
+    public static BatchItemResult succeeded(int index, MockEmployee employee) {
+        return new BatchItemResult(index, true, employee, null);
+    }
+
+    public static BatchItemResult failed(int index, String error) {
+        return new BatchItemResult(index, false, null, error);
+    }
+}
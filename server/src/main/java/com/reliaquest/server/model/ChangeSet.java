@@ -0,0 +1,14 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Changes after {@code since} up to {@code version}. When {@code reset} is set the requested version has fallen out of
+ * the retained log and the client must reload the full roster.
+ */
+public record ChangeSet(long since, long version, boolean reset, List<EmployeeChange> changes) {
+
+    public static ChangeSet reset(long version) {
+        return new ChangeSet(version, version, true, List.of());
+    }
+}
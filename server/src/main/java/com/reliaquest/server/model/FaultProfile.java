@@ -0,0 +1,88 @@
+package com.reliaquest.server.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * Faults the mock server injects into its responses: a latency distribution applied to every request, plus error,
+ * connection reset and slow body rates for requests matching an Ant-style path and, optionally, an HTTP method.
+ */
+public record FaultProfile(Latency latency, List<EndpointFault> endpoints) {
+
+    public static final FaultProfile NONE = new FaultProfile(null, null);
+
+    public FaultProfile {
+        latency = latency == null ? Latency.NONE : latency;
+        endpoints = endpoints == null ? List.of() : List.copyOf(endpoints);
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        LOGNORMAL,
+        BIMODAL
+    }
+
+    /*
+     * FIXED waits base; LOGNORMAL uses base as the median with shape sigma; BIMODAL waits base, or tail with
+     * probability tailProbability.
+     */
+    public record Latency(
+            Distribution distribution, Duration base, double sigma, double tailProbability, Duration tail) {
+
+        public static final Latency NONE = new Latency(Distribution.NONE, null, 0.0, 0.0, null);
+
+        public Latency {
+            distribution = distribution == null ? Distribution.NONE : distribution;
+            base = base == null ? Duration.ZERO : base;
+            tail = tail == null ? Duration.ZERO : tail;
+            if (base.isNegative() || tail.isNegative()) {
+                throw new IllegalArgumentException("latency base and tail must not be negative");
+            }
+            if (!(sigma >= 0.0)) {
+                throw new IllegalArgumentException("latency sigma must not be negative");
+            }
+            requireProbability("latency tailProbability", tailProbability);
+        }
+    }
+
+    /*
+     * Rates are probabilities in [0, 1], checked in order error, reset, slow body. A slow body is written in chunks of
+     * slowBodyChunkBytes with slowBodyChunkDelay between them.
+     */
+    public record EndpointFault(
+            String method,
+            String path,
+            double errorRate,
+            Integer errorStatus,
+            double resetRate,
+            double slowBodyRate,
+            Integer slowBodyChunkBytes,
+            Duration slowBodyChunkDelay) {
+
+        public EndpointFault {
+            errorStatus = errorStatus == null ? 500 : errorStatus;
+            slowBodyChunkBytes = slowBodyChunkBytes == null ? 64 : slowBodyChunkBytes;
+            slowBodyChunkDelay = slowBodyChunkDelay == null ? Duration.ofMillis(50) : slowBodyChunkDelay;
+            requireProbability("errorRate", errorRate);
+            requireProbability("resetRate", resetRate);
+            requireProbability("slowBodyRate", slowBodyRate);
+            if (errorStatus < 400 || errorStatus > 599) {
+                throw new IllegalArgumentException("errorStatus must be a 4xx or 5xx status");
+            }
+            if (slowBodyChunkBytes < 1) {
+                throw new IllegalArgumentException("slowBodyChunkBytes must be at least 1");
+            }
+            if (slowBodyChunkDelay.isNegative()) {
+                throw new IllegalArgumentException("slowBodyChunkDelay must not be negative");
+            }
+        }
+    }
+
+    private static void requireProbability(String name, double value) {
+        // Written so that NaN fails too.
+        if (!(value >= 0.0 && value <= 1.0)) {
+            throw new IllegalArgumentException(name + " must be in [0, 1]");
+        }
+    }
+}
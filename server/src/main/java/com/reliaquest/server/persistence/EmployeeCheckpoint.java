@@ -0,0 +1,81 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/*
+ * Compacted copy of the whole roster at one change log version. Written to a temporary file, synced and atomically
+ * renamed, so a crash mid-write leaves the previous checkpoint in place.
+ */
+record EmployeeCheckpoint(long version, List<MockEmployee> employees) {
+
+    private static final int MAGIC = 0x454D5043;
+    private static final String FILE_NAME = "checkpoint.bin";
+
+    static boolean exists(Path directory) {
+        return Files.exists(directory.resolve(FILE_NAME));
+    }
+
+    static Optional<EmployeeCheckpoint> read(Path directory) throws IOException {
+        final var file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (final var raw = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            final var checked = new CheckedInputStream(raw, new CRC32());
+            final var in = new DataInputStream(checked);
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an employee checkpoint: " + file);
+            }
+            final long version = in.readLong();
+            final int count = in.readInt();
+            final var employees = new ArrayList<MockEmployee>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(EmployeeRecords.readEmployee(in));
+            }
+            final long expected = checked.getChecksum().getValue();
+            if (new DataInputStream(raw).readLong() != expected) {
+                throw new IOException("Corrupt employee checkpoint: " + file);
+            }
+            return Optional.of(new EmployeeCheckpoint(version, employees));
+        }
+    }
+
+    void write(Path directory) throws IOException {
+        final var temporary = directory.resolve(FILE_NAME + ".tmp");
+        try (final var file = new FileOutputStream(temporary.toFile())) {
+            final var raw = new BufferedOutputStream(file, 1 << 16);
+            final var checked = new CheckedOutputStream(raw, new CRC32());
+            final var out = new DataOutputStream(checked);
+            out.writeInt(MAGIC);
+            out.writeLong(version);
+            out.writeInt(employees.size());
+            for (final var employee : employees) {
+                EmployeeRecords.writeEmployee(out, employee);
+            }
+            out.flush();
+            new DataOutputStream(raw).writeLong(checked.getChecksum().getValue());
+            raw.flush();
+            file.getFD().sync();
+        }
+        Files.move(
+                temporary,
+                directory.resolve(FILE_NAME),
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,55 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+ * Compacts the write-ahead log into a checkpoint on a fixed delay and once more on shutdown, so restarts replay at
+ * most one interval of changes. A freshly generated roster is checkpointed straight away.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+public class EmployeeCheckpointer {
+
+    private final WriteAheadLog writeAheadLog;
+    private final MockEmployeeStore store;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "employee-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeCheckpointer(WriteAheadLog writeAheadLog, MockEmployeeStore store, PersistenceProperties properties)
+            throws IOException {
+        this.writeAheadLog = writeAheadLog;
+        this.store = store;
+        if (!writeAheadLog.hasCheckpoint()) {
+            writeAheadLog.checkpoint(store);
+        }
+        final long interval = properties.checkpointInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkpoint, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        checkpoint();
+    }
+
+    private void checkpoint() {
+        try {
+            writeAheadLog.checkpoint(store);
+        } catch (IOException | RuntimeException e) {
+            log.error("Employee checkpoint failed", e);
+        }
+    }
+}
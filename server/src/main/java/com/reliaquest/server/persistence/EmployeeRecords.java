@@ -0,0 +1,86 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/*
+ * Binary encoding shared by the write-ahead log and checkpoints. Deletes only carry the employee id.
+ */
+final class EmployeeRecords {
+
+    private EmployeeRecords() {}
+
+    static void writeChange(DataOutput out, EmployeeChange change) throws IOException {
+        out.writeByte(change.type().ordinal());
+        out.writeLong(change.version());
+        if (change.type() == EmployeeChange.Type.CREATED) {
+            writeEmployee(out, change.employee());
+        } else {
+            writeId(out, change.employee().getId());
+        }
+    }
+
+    static EmployeeChange readChange(DataInput in) throws IOException {
+        final var type = EmployeeChange.Type.values()[in.readUnsignedByte()];
+        final long version = in.readLong();
+        final var employee = type == EmployeeChange.Type.CREATED
+                ? readEmployee(in)
+                : MockEmployee.builder().id(readId(in)).build();
+        return new EmployeeChange(version, type, employee);
+    }
+
+    static void writeEmployee(DataOutput out, MockEmployee employee) throws IOException {
+        writeId(out, employee.getId());
+        writeString(out, employee.getName());
+        writeInteger(out, employee.getSalary());
+        writeInteger(out, employee.getAge());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee readEmployee(DataInput in) throws IOException {
+        return MockEmployee.builder()
+                .id(readId(in))
+                .name(readString(in))
+                .salary(readInteger(in))
+                .age(readInteger(in))
+                .title(readString(in))
+                .email(readString(in))
+                .build();
+    }
+
+    private static void writeId(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readId(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
@@ -0,0 +1,344 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeJournal;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Append-only journal of store mutations, split into numbered segment files. A single writer thread drains every
+ * change queued since its last pass, writes them in one go and syncs once, so concurrent writers share the cost of a
+ * sync. Each record is framed as length, CRC32 and payload; replay stops at the first torn or corrupt record. A failed
+ * write fails the log closed: the unsynced tail is truncated and every later append is rejected, so nothing is ever
+ * acknowledged behind a torn frame.
+ *
+ * A checkpoint rolls to a new segment first and only then captures the roster, so every segment older than the new
+ * one holds nothing the checkpoint lacks and can be deleted once the checkpoint is durable.
+ */
+@Slf4j
+public class WriteAheadLog implements EmployeeJournal, Closeable {
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final int maxBatch;
+    private final List<Path> recoverableSegments;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private FileChannel channel;
+    private long segment;
+    private volatile IOException failure;
+
+    public WriteAheadLog(PersistenceProperties properties) throws IOException {
+        this.directory = properties.directory();
+        this.fsync = properties.fsync();
+        this.maxBatch = Math.max(1, properties.maxBatch());
+        Files.createDirectories(directory);
+        this.recoverableSegments = segments();
+        this.segment = recoverableSegments.isEmpty()
+                ? 1L
+                : segmentNumber(recoverableSegments.get(recoverableSegments.size() - 1)) + 1;
+        this.channel = open(segment);
+        this.writer = new Thread(this::run, "employee-wal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CompletableFuture<Void> append(EmployeeChange change) {
+        final var cause = failure;
+        if (cause != null) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(cause));
+        }
+        final var bytes = new ByteArrayOutputStream(128);
+        try {
+            EmployeeRecords.writeChange(new DataOutputStream(bytes), change);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final var pending = new Pending(frame(bytes.toByteArray()), Pending.Kind.RECORD, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.done();
+    }
+
+    /*
+     * Loads the last checkpoint and replays every change journaled after it. Returns false when there is nothing to
+     * recover from, leaving the store untouched.
+     */
+    public boolean recover(MockEmployeeStore store, EmployeeChangeLog changeLog) throws IOException {
+        final var checkpoint = EmployeeCheckpoint.read(directory);
+        if (checkpoint.isEmpty()) {
+            return false;
+        }
+
+        final long started = System.nanoTime();
+        store.seed(checkpoint.get().employees());
+        final long[] version = {checkpoint.get().version()};
+        final int[] replayed = {0};
+        for (final var file : recoverableSegments) {
+            readSegment(file, change -> {
+                if (change.version() > version[0]) {
+                    store.replay(change);
+                    version[0] = change.version();
+                    replayed[0]++;
+                }
+            });
+        }
+        changeLog.restore(version[0]);
+        log.info(
+                "Recovered {} employees at version {} ({} journaled changes) in {} ms",
+                store.size(),
+                version[0],
+                replayed[0],
+                (System.nanoTime() - started) / 1_000_000);
+        return true;
+    }
+
+    public boolean hasCheckpoint() {
+        return EmployeeCheckpoint.exists(directory);
+    }
+
+    public void checkpoint(MockEmployeeStore store) throws IOException {
+        final long started = System.nanoTime();
+        final long firstRetained = submit(Pending.Kind.ROLL).join();
+        final var snapshot = store.versionedSnapshot();
+        new EmployeeCheckpoint(snapshot.version(), snapshot.employees()).write(directory);
+        for (final var file : segments()) {
+            if (segmentNumber(file) < firstRetained) {
+                Files.deleteIfExists(file);
+            }
+        }
+        log.info(
+                "Checkpointed {} employees at version {} in {} ms",
+                snapshot.employees().size(),
+                snapshot.version(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public void close() throws IOException {
+        submit(Pending.Kind.CLOSE).join();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Completes with the segment being written once the writer has processed the request.
+     */
+    private CompletableFuture<Long> submit(Pending.Kind kind) {
+        final var pending = new Pending(null, kind, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.done().thenApply(ignored -> segment);
+    }
+
+    private void run() {
+        final var batch = new ArrayList<Pending>(maxBatch);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+
+            final var cause = failure;
+            final boolean closed = cause == null ? writeBatch(batch) : failBatch(batch, cause);
+            batch.clear();
+            if (closed) {
+                return;
+            }
+        }
+    }
+
+    /*
+     * Writes the batch and syncs once, completing each request when it is durable. Returns true once closed. On a
+     * failed write the uncommitted part of the segment is cut off and the log fails closed, so replay never meets a
+     * torn frame with acknowledged records behind it.
+     */
+    private boolean writeBatch(List<Pending> batch) {
+        final var committed = new ArrayList<Pending>(batch.size());
+        long uncommittedFrom = -1L;
+        try {
+            uncommittedFrom = channel.position();
+            for (final var pending : batch) {
+                switch (pending.kind()) {
+                    case RECORD -> {
+                        final var buffer = ByteBuffer.wrap(pending.bytes());
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                    }
+                    case ROLL -> {
+                        sync();
+                        channel.close();
+                        complete(committed);
+                        committed.clear();
+                        channel = open(++segment);
+                        uncommittedFrom = 0L;
+                    }
+                    case CLOSE -> {
+                        sync();
+                        channel.close();
+                        complete(committed);
+                        pending.done().complete(null);
+                        return true;
+                    }
+                }
+                committed.add(pending);
+            }
+            sync();
+            complete(committed);
+            return false;
+        } catch (IOException e) {
+            log.error("Write-ahead log write failed, rejecting every further write", e);
+            failure = e;
+            discardUncommitted(uncommittedFrom);
+            return failBatch(batch, e);
+        }
+    }
+
+    private static void complete(List<Pending> committed) {
+        committed.forEach(pending -> pending.done().complete(null));
+    }
+
+    /*
+     * Fails every request of the batch except a close, which still lets the writer thread exit.
+     */
+    private static boolean failBatch(List<Pending> batch, IOException cause) {
+        boolean closed = false;
+        for (final var pending : batch) {
+            if (pending.kind() == Pending.Kind.CLOSE) {
+                pending.done().complete(null);
+                closed = true;
+            } else {
+                pending.done().completeExceptionally(new UncheckedIOException(cause));
+            }
+        }
+        return closed;
+    }
+
+    private void discardUncommitted(long offset) {
+        try (final var failed = channel) {
+            if (offset >= 0 && failed.isOpen()) {
+                failed.truncate(offset);
+                failed.force(false);
+            }
+        } catch (IOException e) {
+            log.error(
+                    "Could not truncate {} to {}; recovery may replay writes that were reported as failed",
+                    segmentFile(segment).getFileName(),
+                    offset,
+                    e);
+        }
+    }
+
+    private void sync() throws IOException {
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    private FileChannel open(long number) throws IOException {
+        return FileChannel.open(segmentFile(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private Path segmentFile(long number) {
+        return directory.resolve(SEGMENT_PREFIX + "%020d".formatted(number) + SEGMENT_SUFFIX);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        final var name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long segmentNumber(Path file) {
+        final var name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static byte[] frame(byte[] payload) {
+        final var crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(Integer.BYTES * 2 + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .array();
+    }
+
+    private static void readSegment(Path file, Consumer<EmployeeChange> consumer) throws IOException {
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                if (length < 0 || length > MAX_RECORD_BYTES) {
+                    log.warn("Stopping replay of {} at a corrupt record", file.getFileName());
+                    return;
+                }
+                final int expected = in.readInt();
+                final var payload = new byte[length];
+                in.readFully(payload);
+                final var crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != expected) {
+                    log.warn("Stopping replay of {} at a corrupt record", file.getFileName());
+                    return;
+                }
+                consumer.accept(EmployeeRecords.readChange(new DataInputStream(new ByteArrayInputStream(payload))));
+            }
+        } catch (EOFException e) {
+            log.warn("Stopping replay of {} at a torn record", file.getFileName());
+        }
+    }
+
+    private record Pending(byte[] bytes, Kind kind, CompletableFuture<Void> done) {
+
+        enum Kind {
+            RECORD,
+            ROLL,
+            CLOSE
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.ChangeSet;
+import com.reliaquest.server.model.EmployeeChange;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Monotonically versioned log of roster mutations. Only the most recent changes are retained; clients asking for
+ * anything older are told to reset.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeLog {
+
+    private final int retained;
+    private final Deque<EmployeeChange> changes = new ArrayDeque<>();
+    private final List<Consumer<EmployeeChange>> listeners = new CopyOnWriteArrayList<>();
+    private long version;
+
+    public EmployeeChangeLog(@Value("${mock.changes.retained:10000}") int retained) {
+        this.retained = retained;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    /*
+     * Continues numbering from a recovered version, so clients holding an older version are told to reset rather than
+     * handed unrelated changes under reused version numbers.
+     */
+    public synchronized void restore(long recoveredVersion) {
+        if (!changes.isEmpty()) {
+            throw new IllegalStateException("Change log already has entries");
+        }
+        version = recoveredVersion;
+    }
+
+    /*
+     * Publishes a change numbered by the caller, which must be the next version.
+     */
+    public synchronized void append(EmployeeChange change) {
+        if (change.version() != version + 1) {
+            throw new IllegalStateException("Expected change " + (version + 1) + " but got " + change.version());
+        }
+        version = change.version();
+        changes.addLast(change);
+        if (changes.size() > retained) {
+            changes.removeFirst();
+        }
+        listeners.forEach(listener -> listener.accept(change));
+    }
+
+    public synchronized ChangeSet since(long since) {
+        final long oldest =
+                changes.isEmpty() ? version + 1 : changes.peekFirst().version();
+        if (since < oldest - 1 || since > version) {
+            log.debug("Change log cannot serve since={} (retained {}..{})", since, oldest, version);
+            return ChangeSet.reset(version);
+        }
+        return new ChangeSet(
+                since, version, false, changes.stream().skip(since - oldest + 1).toList());
+    }
+
+    /*
+     * Hands the backlog to the subscriber and registers its listener under one lock, so no change is missed, repeated
+     * or delivered out of order. A negative since subscribes from the current version onwards. The backlog handler and
+     * listener run under this monitor, and append is called under the store's write lock, so both must only hand
+     * the change off and never block or do network IO.
+     */
+    public synchronized void subscribe(
+            long since, Consumer<ChangeSet> backlogHandler, Consumer<EmployeeChange> listener) {
+        backlogHandler.accept(since < 0 ? new ChangeSet(version, version, false, List.of()) : since(since));
+        listeners.add(listener);
+    }
+
+    public void unsubscribe(Consumer<EmployeeChange> listener) {
+        listeners.remove(listener);
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Durable record of store mutations. Changes are handed over in version order; the returned future completes once the
+ * change is safe to acknowledge.
+ */
+public interface EmployeeJournal {
+
+    EmployeeJournal NONE = change -> CompletableFuture.completedFuture(null);
+
+    CompletableFuture<Void> append(EmployeeChange change);
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/*
+ * Holds the active fault profile and decides, per request, how long to stall and which fault, if any, to inject.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    private static final long MAX_LATENCY_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final AtomicReference<FaultProfile> active = new AtomicReference<>();
+
+    public FaultInjector(FaultInjectionProperties properties) {
+        if (properties.enabled()) {
+            activate(properties.profile() != null ? properties.profile() : FaultProfile.NONE);
+        }
+    }
+
+    public Optional<FaultProfile> active() {
+        return Optional.ofNullable(active.get());
+    }
+
+    public void activate(FaultProfile profile) {
+        active.set(profile);
+        log.info("Activated fault profile: {}", profile);
+    }
+
+    public void deactivate() {
+        active.set(null);
+        log.info("Deactivated fault injection");
+    }
+
+    public Decision decide(String method, String path) {
+        final var profile = active.get();
+        if (profile == null) {
+            return Decision.NONE;
+        }
+
+        final var random = ThreadLocalRandom.current();
+        final long latencyNanos = sampleLatency(profile.latency(), random);
+        for (final var endpoint : profile.endpoints()) {
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(method))
+                    && endpoint.path() != null
+                    && pathMatcher.match(endpoint.path(), path)) {
+                return new Decision(latencyNanos, pickFault(endpoint, random), endpoint);
+            }
+        }
+        return new Decision(latencyNanos, Fault.NONE, null);
+    }
+
+    private static long sampleLatency(FaultProfile.Latency latency, ThreadLocalRandom random) {
+        final long base = latency.base().toNanos();
+        final long nanos =
+                switch (latency.distribution()) {
+                    case NONE -> 0L;
+                    case FIXED -> base;
+                    case LOGNORMAL -> (long) (base * Math.exp(latency.sigma() * random.nextGaussian()));
+                    case BIMODAL -> random.nextDouble() < latency.tailProbability()
+                            ? latency.tail().toNanos()
+                            : base;
+                };
+        return Math.max(0L, Math.min(nanos, MAX_LATENCY_NANOS));
+    }
+
+    private static Fault pickFault(FaultProfile.EndpointFault endpoint, ThreadLocalRandom random) {
+        final double roll = random.nextDouble();
+        if (roll < endpoint.errorRate()) {
+            return Fault.ERROR;
+        }
+        if (roll < endpoint.errorRate() + endpoint.resetRate()) {
+            return Fault.RESET;
+        }
+        if (roll < endpoint.errorRate() + endpoint.resetRate() + endpoint.slowBodyRate()) {
+            return Fault.SLOW_BODY;
+        }
+        return Fault.NONE;
+    }
+
+    public enum Fault {
+        NONE,
+        ERROR,
+        RESET,
+        SLOW_BODY
+    }
+
+    public record Decision(long latencyNanos, Fault fault, FaultProfile.EndpointFault endpoint) {
+
+        static final Decision NONE = new Decision(0L, Fault.NONE, null);
+    }
+}
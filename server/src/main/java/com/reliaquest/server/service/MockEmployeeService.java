@@ -1,14 +1,17 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.config.ShardProperties;
+import com.reliaquest.server.model.BatchCreateMockEmployeeInput;
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.IntStream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,38 +24,70 @@ import org.springframework.stereotype.Service;
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final MockEmployeeStore mockEmployeeStore;
+    private final ShardProperties shard;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newEmployee(input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    public List<BatchItemResult> createAll(@NonNull BatchCreateMockEmployeeInput input) {
+        final var mockEmployees =
+                input.getEmployees().stream().map(this::newEmployee).toList();
+        mockEmployeeStore.addAll(mockEmployees);
+        log.debug("Added {} employees in one batch", mockEmployees.size());
+        return IntStream.range(0, mockEmployees.size())
+                .mapToObj(index -> BatchItemResult.succeeded(index, mockEmployees.get(index)))
+                .toList();
+    }
+
+    public List<BatchItemResult> deleteAll(@NonNull BatchDeleteMockEmployeeInput input) {
+        final var removed = mockEmployeeStore.removeFirstByNames(input.getNames());
+        log.debug(
+                "Removed {} of {} employees in one batch",
+                removed.stream().filter(Optional::isPresent).count(),
+                removed.size());
+        return IntStream.range(0, removed.size())
+                .mapToObj(index -> removed.get(index)
+                        .map(employee -> BatchItemResult.succeeded(index, employee))
+                        .orElseGet(() -> BatchItemResult.failed(
+                                index, "No employee named " + input.getNames().get(index))))
+                .toList();
+    }
+
+    /*
+     * A shard only hands out ids it owns, so later lookups routed by id find the employee here. Redrawing takes count
+     * attempts on average.
+     */
+    private MockEmployee newEmployee(CreateMockEmployeeInput input) {
+        final var mockEmployee = MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+        while (!shard.owns(mockEmployee.getId())) {
+            mockEmployee.setId(UUID.randomUUID());
+        }
+        return mockEmployee;
+    }
 }
@@ -0,0 +1,296 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/*
+ * Thread-safe in-memory employee table. Lookups by id are lock-free; writes are serialised by a single lock that
+ * also keeps the insertion-ordered view, the case-folded name index, the change log and the journal in step. List
+ * reads share an immutable snapshot that is rebuilt lazily after a write, so concurrent readers never copy or block
+ * each other. Concurrent writes are committed in groups that share one journal sync, and a change reaches memory and
+ * the change log only after it is durable.
+ */
+public class MockEmployeeStore {
+
+    private final EmployeeChangeLog changeLog;
+    private final EmployeeJournal journal;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    private final Map<UUID, MockEmployee> ordered = new LinkedHashMap<>();
+    private final Map<String, Set<UUID>> byName = new HashMap<>();
+    private final Queue<Write> pending = new ConcurrentLinkedQueue<>();
+    private volatile List<MockEmployee> snapshot = List.of();
+
+    public MockEmployeeStore(@NonNull EmployeeChangeLog changeLog) {
+        this(changeLog, EmployeeJournal.NONE);
+    }
+
+    public MockEmployeeStore(@NonNull EmployeeChangeLog changeLog, @NonNull EmployeeJournal journal) {
+        this.changeLog = changeLog;
+        this.journal = journal;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<MockEmployee> snapshot() {
+        List<MockEmployee> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = List.copyOf(ordered.values());
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /*
+     * The roster together with the change log version it reflects.
+     */
+    public VersionedSnapshot versionedSnapshot() {
+        writeLock.lock();
+        try {
+            return new VersionedSnapshot(changeLog.version(), snapshot());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * Loads the initial roster. Seeded employees predate the change log and are not recorded in it.
+     */
+    public void seed(@NonNull Collection<MockEmployee> employees) {
+        writeLock.lock();
+        try {
+            employees.forEach(this::index);
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * Re-applies a journaled change during recovery, bypassing the change log and the journal.
+     */
+    public void replay(@NonNull EmployeeChange change) {
+        writeLock.lock();
+        try {
+            apply(change);
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    /*
+     * Adds every employee in one commit, so readers see either none or all of them.
+     */
+    public void addAll(@NonNull List<MockEmployee> employees) {
+        commit(new Write(employees, List.of()));
+    }
+
+    /*
+     * Removes the earliest inserted employee whose name matches case-insensitively.
+     */
+    public Optional<MockEmployee> removeFirstByName(@NonNull String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    /*
+     * Applies removeFirstByName for each name in order in one commit. A name repeated n times removes up to n
+     * matching employees.
+     */
+    public List<Optional<MockEmployee>> removeFirstByNames(@NonNull List<String> names) {
+        return commit(new Write(List.of(), names));
+    }
+
+    /*
+     * Queues the write and commits every queued write as one group unless another writer already did. Changes are
+     * numbered and journaled first and only applied and published to the change log once the whole group is durable;
+     * if the journal fails, the group fails and nothing becomes visible. Writers arriving while a group waits for the
+     * journal queue up behind the lock and are committed together in the next group.
+     */
+    private List<Optional<MockEmployee>> commit(Write write) {
+        pending.add(write);
+        writeLock.lock();
+        try {
+            if (!write.result().isDone()) {
+                commitPending();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return write.result().join();
+    }
+
+    /*
+     * Once polled, the group's writers rely on this call alone to complete their futures, so any failure, whether from
+     * the journal, the change log or applying the changes, fails every write in the group that is still open.
+     */
+    private void commitPending() {
+        final var group = new ArrayList<Write>();
+        for (Write next = pending.poll(); next != null; next = pending.poll()) {
+            group.add(next);
+        }
+        try {
+            commitGroup(group);
+        } catch (Throwable e) {
+            final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            snapshot = null;
+            group.forEach(write -> write.result().completeExceptionally(cause));
+        }
+    }
+
+    private void commitGroup(List<Write> group) {
+        final var staged = new Staged();
+        final var changes = new ArrayList<EmployeeChange>();
+        final var results = new ArrayList<List<Optional<MockEmployee>>>(group.size());
+        long version = changeLog.version();
+        for (final var write : group) {
+            final var result =
+                    new ArrayList<Optional<MockEmployee>>(write.removals().size());
+            for (final var employee : write.creations()) {
+                staged.created().add(employee);
+                changes.add(new EmployeeChange(++version, EmployeeChange.Type.CREATED, employee));
+            }
+            for (final var name : write.removals()) {
+                final var employee = firstByName(name, staged);
+                if (employee.isPresent()) {
+                    staged.removed().add(employee.get().getId());
+                    changes.add(new EmployeeChange(++version, EmployeeChange.Type.DELETED, employee.get()));
+                }
+                result.add(employee);
+            }
+            results.add(result);
+        }
+
+        CompletableFuture.allOf(changes.stream().map(journal::append).toArray(CompletableFuture[]::new))
+                .join();
+
+        for (final var change : changes) {
+            apply(change);
+            changeLog.append(change);
+        }
+        if (!changes.isEmpty()) {
+            snapshot = null;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).result().complete(results.get(i));
+        }
+    }
+
+    /*
+     * The earliest employee with the name once the changes staged so far in this group are taken into account.
+     */
+    private Optional<MockEmployee> firstByName(String name, Staged staged) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        final var key = fold(name);
+        final var ids = byName.get(key);
+        if (ids != null) {
+            for (final var id : ids) {
+                if (!staged.removed().contains(id)) {
+                    return Optional.of(ordered.get(id));
+                }
+            }
+        }
+        return staged.created().stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && fold(employee.getName()).equals(key))
+                .filter(employee -> !staged.removed().contains(employee.getId()))
+                .findFirst();
+    }
+
+    private void apply(EmployeeChange change) {
+        if (change.type() == EmployeeChange.Type.CREATED) {
+            index(change.employee());
+        } else if (ordered.containsKey(change.employee().getId())) {
+            unindex(change.employee().getId());
+        }
+    }
+
+    private void index(MockEmployee employee) {
+        final var previous = ordered.get(employee.getId());
+        if (previous != null) {
+            unindex(previous.getId());
+        }
+        byId.put(employee.getId(), employee);
+        ordered.put(employee.getId(), employee);
+        if (Objects.nonNull(employee.getName())) {
+            byName.computeIfAbsent(fold(employee.getName()), ignored -> new LinkedHashSet<>())
+                    .add(employee.getId());
+        }
+    }
+
+    private MockEmployee unindex(UUID id) {
+        final var employee = ordered.remove(id);
+        byId.remove(id);
+        if (Objects.nonNull(employee.getName())) {
+            final var key = fold(employee.getName());
+            final var ids = byName.get(key);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+        return employee;
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public record VersionedSnapshot(long version, List<MockEmployee> employees) {}
+
+    private record Write(
+            List<MockEmployee> creations,
+            List<String> removals,
+            CompletableFuture<List<Optional<MockEmployee>>> result) {
+
+        Write(List<MockEmployee> creations, List<String> removals) {
+            this(creations, removals, new CompletableFuture<>());
+        }
+    }
+
+    private record Staged(List<MockEmployee> created, Set<UUID> removed) {
+
+        Staged() {
+            this(new ArrayList<>(), new HashSet<>());
+        }
+    }
+}
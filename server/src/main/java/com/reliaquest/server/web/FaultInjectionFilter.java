@@ -0,0 +1,206 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.FaultInjector;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Applies the active fault profile in front of the controllers. Admin requests are never faulted, and event streams
+ * only get latency since their body never completes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    public static final String ADMIN_PATH_PREFIX = "/admin/";
+
+    private static final int RESET_DECLARED_LENGTH = 1 << 16;
+
+    private final FaultInjector faultInjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(ADMIN_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final var decision = faultInjector.decide(request.getMethod(), request.getRequestURI());
+        if (decision.latencyNanos() > 0) {
+            sleep(decision.latencyNanos());
+        }
+
+        switch (decision.fault()) {
+            case ERROR -> {
+                log.debug(
+                        "Injecting {} into {} {}",
+                        decision.endpoint().errorStatus(),
+                        request.getMethod(),
+                        request.getRequestURI());
+                response.setStatus(decision.endpoint().errorStatus());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+            }
+            case RESET -> {
+                log.debug("Injecting connection reset into {} {}", request.getMethod(), request.getRequestURI());
+                // Promise more bytes than are sent, then have the connector close the socket mid-body.
+                response.setHeader(HttpHeaders.CONNECTION, "close");
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.setContentLength(RESET_DECLARED_LENGTH);
+                response.getOutputStream().write('{');
+                response.flushBuffer();
+            }
+            case SLOW_BODY -> {
+                if (isEventStream(request)) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                final var slow = new SlowBodyResponse(
+                        response,
+                        decision.endpoint().slowBodyChunkBytes(),
+                        decision.endpoint().slowBodyChunkDelay().toNanos());
+                chain.doFilter(request, slow);
+                slow.flushBuffer();
+            }
+            case NONE -> chain.doFilter(request, response);
+        }
+    }
+
+    private static boolean isEventStream(HttpServletRequest request) {
+        final var accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    /*
+     * Hands the body to the real response as it is written, flushing and pausing after every chunkBytes bytes, so a
+     * slow body is never buffered whole and streamed responses keep their memory bound.
+     */
+    private static final class SlowBodyResponse extends HttpServletResponseWrapper {
+
+        private final int chunkBytes;
+        private final long chunkDelayNanos;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        SlowBodyResponse(HttpServletResponse response, int chunkBytes, long chunkDelayNanos) {
+            super(response);
+            this.chunkBytes = chunkBytes;
+            this.chunkDelayNanos = chunkDelayNanos;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new SlowOutputStream(super.getOutputStream(), chunkBytes, chunkDelayNanos);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (outputStream != null) {
+                outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private static final class SlowOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final int chunkBytes;
+        private final long chunkDelayNanos;
+        private int written;
+
+        SlowOutputStream(ServletOutputStream delegate, int chunkBytes, long chunkDelayNanos) {
+            this.delegate = delegate;
+            this.chunkBytes = chunkBytes;
+            this.chunkDelayNanos = chunkDelayNanos;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (++written == chunkBytes) {
+                pause();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                final int count = Math.min(length, chunkBytes - written);
+                delegate.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                written += count;
+                if (written == chunkBytes) {
+                    pause();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void pause() throws IOException {
+            written = 0;
+            delegate.flush();
+            sleep(chunkDelayNanos);
+        }
+    }
+}
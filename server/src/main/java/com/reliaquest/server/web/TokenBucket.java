@@ -0,0 +1,55 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Lock-free token bucket in its virtual-scheduling form: the whole state is the theoretical arrival time of the next
+ * request, advanced by one emission interval per admitted request with a single CAS. A request is admitted while that
+ * time stays within capacity intervals of now, so a full bucket allows a burst of capacity requests and then one
+ * request per emission interval.
+ */
+final class TokenBucket {
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+        if (capacity < 1 || refillPeriodNanos < 1) {
+            throw new IllegalArgumentException("Token bucket capacity and refill period must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, refillPeriodNanos / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /*
+     * A full bucket behaves exactly like a newly created one, so it can be dropped and recreated on demand.
+     */
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+
+    /*
+     * Returns the tokens left after admitting the request, or -1 - waitNanos when it must be rejected.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            final long current = theoreticalArrival.get();
+            final long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            final long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return -1L - (ahead - burstNanos);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return (burstNanos - ahead) / emissionIntervalNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/*
+ * Rejects requests with 429 once their bucket is empty. Each endpoint quota, and the default quota for everything
+ * else, has one bucket shared by all callers or, in per-client mode, one bucket per remote address. Buckets that have
+ * refilled completely are swept out periodically, so addresses that stop calling do not accumulate.
+ */
+@Slf4j
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+
+    private static final String DEFAULT_QUOTA = "default";
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Quota defaultQuota;
+    private final List<RateLimitProperties.EndpointQuota> endpointQuotas;
+    private final boolean perClient;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+    public TokenBucketRequestLimitInterceptor(RateLimitProperties properties) {
+        final RandomGenerator random =
+                properties.seed() != null ? new Random(properties.seed()) : RandomGenerator.getDefault();
+        final int capacity = properties.capacity() != null ? properties.capacity() : random.nextInt(5, 10);
+        final Duration refillPeriod = properties.refillPeriod() != null
+                ? properties.refillPeriod()
+                : Duration.ofSeconds(random.nextInt(30, 90));
+        this.defaultQuota = new Quota(DEFAULT_QUOTA, capacity, refillPeriod);
+        this.endpointQuotas = properties.endpoints();
+        this.perClient = properties.perClient();
+        log.info(
+                "Rate limiting to {} requests per {}s{}",
+                capacity,
+                refillPeriod.toSeconds(),
+                perClient ? " per client" : "");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var quota = quotaFor(request);
+        final var key = perClient ? quota.name() + '|' + request.getRemoteAddr() : quota.name();
+        final long now = System.nanoTime();
+        sweepIdleBuckets(now);
+        final var bucket = buckets.computeIfAbsent(
+                key,
+                ignored ->
+                        new TokenBucket(quota.capacity(), quota.refillPeriod().toNanos(), now));
+
+        final long result = bucket.tryAcquire(now);
+        response.setHeader(LIMIT_HEADER, Integer.toString(bucket.capacity()));
+        if (result >= 0) {
+            response.setHeader(REMAINING_HEADER, Long.toString(result));
+            return true;
+        }
+
+        final long waitNanos = -1L - result;
+        response.setHeader(REMAINING_HEADER, "0");
+        response.setHeader(
+                HttpHeaders.RETRY_AFTER,
+                Long.toString(
+                        Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        return false;
+    }
+
+    /*
+     * Drops buckets that are full again. A request racing the removal may spend a token from the dropped bucket and
+     * so get one extra request through, which is acceptable for a mock.
+     */
+    private void sweepIdleBuckets(long now) {
+        final long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private Quota quotaFor(HttpServletRequest request) {
+        final var path = request.getRequestURI();
+        for (int i = 0; i < endpointQuotas.size(); i++) {
+            final var endpoint = endpointQuotas.get(i);
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(endpoint.path(), path)) {
+                return new Quota("endpoint-" + i, endpoint.capacity(), endpoint.refillPeriod());
+            }
+        }
+        return defaultQuota;
+    }
+
+    private record Quota(String name, int capacity, Duration refillPeriod) {}
+}
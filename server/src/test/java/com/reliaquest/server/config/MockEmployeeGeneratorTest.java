@@ -0,0 +1,58 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int COUNT = MockEmployeeGenerator.CHUNK_SIZE * 3 + 17;
+
+    @Test
+    void generate_shouldYieldSameRosterRegardlessOfParallelism() {
+        // Arrange
+        final var generator = new MockEmployeeGenerator(Locale.US, 42L);
+
+        // Act
+        final List<MockEmployee> sequential = generator.generate(COUNT, false);
+        final List<MockEmployee> parallel = generator.generate(COUNT, true);
+
+        // Assert
+        assertEquals(COUNT, sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(sequential, new MockEmployeeGenerator(Locale.US, 42L).generate(COUNT, true));
+    }
+
+    @Test
+    void generate_shouldNotRepeatChunksAcrossNeighbouringSeeds() {
+        // Arrange
+        final int count = MockEmployeeGenerator.CHUNK_SIZE * 2;
+
+        // Act
+        final List<MockEmployee> even = new MockEmployeeGenerator(Locale.US, 42L).generate(count, false);
+        final List<MockEmployee> odd = new MockEmployeeGenerator(Locale.US, 43L).generate(count, false);
+
+        // Assert
+        final Set<UUID> ids = new HashSet<>();
+        even.forEach(employee -> ids.add(employee.getId()));
+        odd.forEach(employee -> ids.add(employee.getId()));
+        assertEquals(count * 2, ids.size());
+    }
+
+    @Test
+    void chunkSeed_shouldDifferInLow48Bits() {
+        // Act & Assert
+        final Set<Long> seen = new HashSet<>();
+        for (long seed : new long[] {0L, 1L, 1L << 48, 1L << 63}) {
+            for (int chunk = 0; chunk < 4; chunk++) {
+                assertTrue(seen.add(MockEmployeeGenerator.chunkSeed(seed, chunk) & ((1L << 48) - 1)));
+            }
+        }
+    }
+}
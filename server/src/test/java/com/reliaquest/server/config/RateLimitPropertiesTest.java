@@ -0,0 +1,52 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RateLimitPropertiesTest {
+
+    @Test
+    void constructor_shouldRejectZeroCapacity() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RateLimitProperties(true, 0, Duration.ofSeconds(30), null, false, List.of()));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveRefillPeriod() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RateLimitProperties(true, 5, Duration.ZERO, null, false, List.of()));
+    }
+
+    @Test
+    void endpointQuota_shouldRejectZeroCapacity() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RateLimitProperties.EndpointQuota("GET", "/api/v1/employee", 0, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void endpointQuota_shouldRejectMissingRefillPeriod() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new RateLimitProperties.EndpointQuota(null, "/api/v1/employee", 5, null));
+    }
+
+    @Test
+    void constructor_shouldLeaveUnsetDefaultsToBeDrawnAtStartup() {
+        // Act
+        RateLimitProperties properties = new RateLimitProperties(true, null, null, 42L, false, List.of());
+
+        // Assert
+        assertNull(properties.capacity());
+        assertNull(properties.refillPeriod());
+    }
+}
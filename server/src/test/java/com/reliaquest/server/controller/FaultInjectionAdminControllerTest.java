@@ -0,0 +1,73 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.service.FaultInjector;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class FaultInjectionAdminControllerTest {
+
+    private final FaultInjector faultInjector = new FaultInjector(new FaultInjectionProperties(false, null));
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FaultInjectionAdminController(faultInjector))
+            .setControllerAdvice(new MockEmployeeControllerAdvice())
+            .build();
+
+    @Test
+    void putProfile_shouldActivateValidProfile() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/admin/faults")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(endpoint("\"errorRate\":0.5,\"errorStatus\":503,\"slowBodyChunkBytes\":16")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.endpoints[0].errorStatus").value(503));
+        assertTrue(faultInjector.active().isPresent());
+    }
+
+    @Test
+    void putProfile_shouldReturn400WhenChunkBytesIsZero() throws Exception {
+        assertRejected(endpoint("\"slowBodyRate\":1.0,\"slowBodyChunkBytes\":0"));
+    }
+
+    @Test
+    void putProfile_shouldReturn400WhenChunkBytesIsNegative() throws Exception {
+        assertRejected(endpoint("\"slowBodyRate\":1.0,\"slowBodyChunkBytes\":-4"));
+    }
+
+    @Test
+    void putProfile_shouldReturn400WhenRateIsOutsideUnitInterval() throws Exception {
+        assertRejected(endpoint("\"errorRate\":1.5"));
+        assertRejected(endpoint("\"resetRate\":-0.1"));
+    }
+
+    @Test
+    void putProfile_shouldReturn400WhenErrorStatusIsNotAnError() throws Exception {
+        assertRejected(endpoint("\"errorRate\":1.0,\"errorStatus\":200"));
+    }
+
+    @Test
+    void putProfile_shouldReturn400WhenDurationOrSigmaIsNegative() throws Exception {
+        assertRejected(endpoint("\"slowBodyRate\":1.0,\"slowBodyChunkDelay\":\"-PT1S\""));
+        assertRejected("{\"latency\":{\"distribution\":\"LOGNORMAL\",\"base\":\"PT0.01S\",\"sigma\":-1}}");
+        assertRejected("{\"latency\":{\"distribution\":\"FIXED\",\"base\":\"-PT1S\"}}");
+    }
+
+    private void assertRejected(String profile) throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/admin/faults")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(profile))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").isNotEmpty());
+        assertTrue(faultInjector.active().isEmpty());
+    }
+
+    private static String endpoint(String fields) {
+        return "{\"endpoints\":[{\"path\":\"/api/v1/employee/**\"," + fields + "}]}";
+    }
+}
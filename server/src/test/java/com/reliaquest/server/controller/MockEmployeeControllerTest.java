@@ -0,0 +1,254 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.server.config.ShardProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(100);
+    private final MockEmployeeStore store = new MockEmployeeStore(changeLog);
+    private final MockEmployeeController controller = new MockEmployeeController(
+            new MockEmployeeService(new Faker(), store, new ShardProperties(0, 1)), changeLog, new ObjectMapper());
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new MockEmployeeControllerAdvice())
+            .build();
+
+    @Test
+    void getEmployees_shouldStreamWholeRosterWithVersionAndTotalHeaders() throws Exception {
+        // Arrange
+        List<MockEmployee> seeded = employees(3000);
+        store.seed(seeded);
+        store.add(employee("Ada Lovelace"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(MockEmployeeController.ROSTER_VERSION_HEADER, "1"))
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "3001"))
+                .andExpect(jsonPath("$.data.length()").value(3001))
+                .andExpect(jsonPath("$.data[0].id").value(seeded.get(0).getId().toString()))
+                .andExpect(jsonPath("$.data[2999].employee_name")
+                        .value(seeded.get(2999).getName()))
+                .andExpect(jsonPath("$.data[3000].employee_name").value("Ada Lovelace"))
+                .andExpect(jsonPath("$.status").value("Successfully processed request."));
+    }
+
+    @Test
+    void getEmployees_shouldReturnRequestedPageWithTotalOfWholeRoster() throws Exception {
+        // Arrange
+        List<MockEmployee> seeded = employees(5);
+        store.seed(seeded);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee").param("offset", "1").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.TOTAL_COUNT_HEADER, "5"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(seeded.get(1).getId().toString()))
+                .andExpect(jsonPath("$.data[1].id").value(seeded.get(2).getId().toString()));
+    }
+
+    @Test
+    void getEmployees_shouldReturnEmptyPageWhenOffsetIsPastEnd() throws Exception {
+        // Arrange
+        store.seed(employees(2));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee").param("offset", "10").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    void getEmployees_shouldReturn400WhenOffsetIsNegative() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee").param("offset", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("offset and limit must not be negative"));
+    }
+
+    @Test
+    void getEmployees_shouldReturn400WhenLimitIsNegative() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee").param("limit", "-5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").isNotEmpty());
+    }
+
+    @Test
+    void getEmployees_shouldEncodeSmileWhenClientPrefersIt() throws Exception {
+        // Arrange
+        List<MockEmployee> seeded = employees(3);
+        store.seed(seeded);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/v1/employee")
+                        .header(HttpHeaders.ACCEPT, "application/x-jackson-smile, application/json;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MockEmployeeController.SMILE))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        JsonNode document = smileMapper.readTree(body);
+        assertEquals(3, document.path("data").size());
+        JsonNode first = document.path("data").get(0);
+        assertEquals(seeded.get(0).getId(), smileMapper.treeToValue(first.path("id"), UUID.class));
+        assertEquals(seeded.get(0).getName(), first.path("employee_name").asText());
+        assertEquals("Successfully processed request.", document.path("status").asText());
+    }
+
+    @Test
+    void getEmployees_shouldEncodeJsonWhenClientRanksItHigher() throws Exception {
+        // Arrange
+        store.seed(employees(2));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee")
+                        .header(HttpHeaders.ACCEPT, "application/x-jackson-smile;q=0.5, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    @Test
+    void getEmployees_shouldEncodeJsonForWildcardAccept() throws Exception {
+        // Arrange
+        store.seed(employees(1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.ACCEPT, "*/*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
+    @Test
+    void createEmployees_shouldReturnOneResultPerItemInRequestOrder() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBatch(List.of(input("Ada Lovelace", 30), input("Grace Hopper", 40)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].index").value(0))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].employee.employee_name").value("Ada Lovelace"))
+                .andExpect(jsonPath("$.data[1].index").value(1))
+                .andExpect(jsonPath("$.data[1].employee.employee_name").value("Grace Hopper"));
+        assertEquals(2, store.size());
+        assertEquals(2, changeLog.version());
+    }
+
+    @Test
+    void createEmployees_shouldReturn400WhenBatchExceedsItemLimit() throws Exception {
+        // Arrange
+        List<String> items = IntStream.range(0, 1001)
+                .mapToObj(i -> input("Employee " + i, 30))
+                .toList();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBatch(items)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").isNotEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void createEmployees_shouldReturn400AndStoreNothingWhenAnyItemIsInvalid() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createBatch(List.of(input("Ada Lovelace", 30), input("Too Young", 12)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("employees[1].age")));
+        assertEquals(0, store.size());
+        assertEquals(0, changeLog.version());
+    }
+
+    @Test
+    void deleteEmployees_shouldReportNamesThatMatchNobodyAtTheirIndex() throws Exception {
+        // Arrange
+        store.seed(List.of(employee("Ada Lovelace"), employee("Grace Hopper")));
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"names\":[\"grace hopper\",\"Nobody\",\"Ada Lovelace\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].employee.employee_name").value("Grace Hopper"))
+                .andExpect(jsonPath("$.data[1].index").value(1))
+                .andExpect(jsonPath("$.data[1].success").value(false))
+                .andExpect(jsonPath("$.data[1].error").value("No employee named Nobody"))
+                .andExpect(jsonPath("$.data[2].success").value(true));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void deleteEmployees_shouldReturn400WhenBatchExceedsItemLimit() throws Exception {
+        // Arrange
+        String names =
+                IntStream.range(0, 1001).mapToObj(i -> "\"Employee " + i + "\"").collect(Collectors.joining(","));
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"names\":[" + names + "]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String createBatch(List<String> items) {
+        return "{\"employees\":[" + String.join(",", items) + "]}";
+    }
+
+    private static String input(String name, int age) {
+        return "{\"name\":\"" + name + "\",\"salary\":100,\"age\":" + age + ",\"title\":\"Engineer\"}";
+    }
+
+    private static List<MockEmployee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> employee("Employee " + i))
+                .toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100)
+                .age(30)
+                .title("Engineer")
+                .email(name.replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
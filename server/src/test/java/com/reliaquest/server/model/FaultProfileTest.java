@@ -0,0 +1,37 @@
+package com.reliaquest.server.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class FaultProfileTest {
+
+    @Test
+    void endpointFault_shouldApplyDefaults() {
+        // Act
+        FaultProfile.EndpointFault fault = new FaultProfile.EndpointFault(null, "/**", 0.1, null, 0.0, 0.0, null, null);
+
+        // Assert
+        assertEquals(500, fault.errorStatus());
+        assertEquals(64, fault.slowBodyChunkBytes());
+        assertEquals(Duration.ofMillis(50), fault.slowBodyChunkDelay());
+    }
+
+    @Test
+    void endpointFault_shouldRejectNanRate() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new FaultProfile.EndpointFault(null, "/**", Double.NaN, null, 0.0, 0.0, null, null));
+    }
+
+    @Test
+    void latency_shouldRejectTailProbabilityAboveOne() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new FaultProfile.Latency(
+                        FaultProfile.Distribution.BIMODAL, Duration.ofMillis(1), 0.0, 1.5, Duration.ofSeconds(1)));
+    }
+}
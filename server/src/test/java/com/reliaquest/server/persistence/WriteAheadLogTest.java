@@ -0,0 +1,144 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.PersistenceProperties;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recover_shouldReplayChangesJournaledAfterCheckpoint() throws Exception {
+        // Arrange
+        MockEmployee seeded = employee("Ada Lovelace");
+        MockEmployee created = employee("Grace Hopper");
+        writeHistory(seeded, created);
+
+        // Act
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(100);
+        MockEmployeeStore store = new MockEmployeeStore(changeLog);
+        boolean recovered;
+        try (WriteAheadLog wal = new WriteAheadLog(properties())) {
+            recovered = wal.recover(store, changeLog);
+        }
+
+        // Assert
+        assertTrue(recovered);
+        assertEquals(List.of(created), store.snapshot());
+        assertEquals(2, changeLog.version());
+    }
+
+    @Test
+    void recover_shouldStopAtTornTailAndKeepEarlierChanges() throws Exception {
+        // Arrange
+        MockEmployee seeded = employee("Ada Lovelace");
+        MockEmployee created = employee("Grace Hopper");
+        writeHistory(seeded, created);
+        Path segment = lastNonEmptySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // Act
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(100);
+        MockEmployeeStore store = new MockEmployeeStore(changeLog);
+        try (WriteAheadLog wal = new WriteAheadLog(properties())) {
+            wal.recover(store, changeLog);
+        }
+
+        // Assert
+        assertEquals(List.of(seeded, created), store.snapshot());
+        assertEquals(1, changeLog.version());
+    }
+
+    @Test
+    void recover_shouldIgnoreHalfWrittenFrameHeader() throws Exception {
+        // Arrange
+        MockEmployee seeded = employee("Ada Lovelace");
+        MockEmployee created = employee("Grace Hopper");
+        writeHistory(seeded, created);
+        try (FileChannel channel = FileChannel.open(lastNonEmptySegment(), StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(6).putInt(64).putShort((short) 7).flip());
+        }
+
+        // Act
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(100);
+        MockEmployeeStore store = new MockEmployeeStore(changeLog);
+        try (WriteAheadLog wal = new WriteAheadLog(properties())) {
+            wal.recover(store, changeLog);
+        }
+
+        // Assert
+        assertEquals(List.of(created), store.snapshot());
+        assertEquals(2, changeLog.version());
+    }
+
+    @Test
+    void recover_shouldReturnFalseWithoutCheckpoint() throws Exception {
+        // Arrange
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(100);
+        MockEmployeeStore store = new MockEmployeeStore(changeLog);
+
+        // Act & Assert
+        try (WriteAheadLog wal = new WriteAheadLog(properties())) {
+            assertFalse(wal.recover(store, changeLog));
+        }
+        assertEquals(0, store.size());
+    }
+
+    /*
+     * Checkpoints a roster holding seeded, then journals creating created and deleting seeded.
+     */
+    private void writeHistory(MockEmployee seeded, MockEmployee created) throws IOException {
+        EmployeeChangeLog changeLog = new EmployeeChangeLog(100);
+        try (WriteAheadLog wal = new WriteAheadLog(properties())) {
+            MockEmployeeStore store = new MockEmployeeStore(changeLog, wal);
+            store.seed(List.of(seeded));
+            wal.checkpoint(store);
+            store.add(created);
+            store.removeFirstByName(seeded.getName());
+        }
+    }
+
+    private Path lastNonEmptySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("wal-"))
+                    .filter(file -> file.toFile().length() > 0)
+                    .sorted()
+                    .reduce((first, second) -> second)
+                    .orElseThrow();
+        }
+    }
+
+    private PersistenceProperties properties() {
+        return new PersistenceProperties(true, directory, false, 512, Duration.ofMinutes(5));
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
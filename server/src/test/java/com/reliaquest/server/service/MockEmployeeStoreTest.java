@@ -0,0 +1,246 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.ChangeSet;
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(3);
+    private final MockEmployeeStore store = new MockEmployeeStore(changeLog);
+
+    @Test
+    void add_shouldRecordOneVersionPerEmployee() {
+        // Arrange
+        MockEmployee first = employee("Ada Lovelace");
+        MockEmployee second = employee("Grace Hopper");
+
+        // Act
+        store.addAll(List.of(first, second));
+
+        // Assert
+        ChangeSet changes = changeLog.since(0);
+        assertEquals(2, changes.version());
+        assertEquals(
+                List.of(
+                        new EmployeeChange(1, EmployeeChange.Type.CREATED, first),
+                        new EmployeeChange(2, EmployeeChange.Type.CREATED, second)),
+                changes.changes());
+        assertEquals(new MockEmployeeStore.VersionedSnapshot(2, List.of(first, second)), store.versionedSnapshot());
+    }
+
+    @Test
+    void seed_shouldNotAdvanceVersion() {
+        // Act
+        store.seed(List.of(employee("Ada Lovelace")));
+
+        // Assert
+        assertEquals(0, changeLog.version());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void removeFirstByName_shouldRemoveEarliestCaseInsensitiveMatchAndRecordDeletion() {
+        // Arrange
+        MockEmployee earlier = employee("Ada Lovelace");
+        MockEmployee later = employee("ada lovelace");
+        store.addAll(List.of(earlier, later));
+
+        // Act
+        Optional<MockEmployee> removed = store.removeFirstByName("ADA LOVELACE");
+
+        // Assert
+        assertEquals(Optional.of(earlier), removed);
+        assertEquals(List.of(later), store.snapshot());
+        assertEquals(Optional.empty(), store.findById(earlier.getId()));
+        assertEquals(
+                List.of(new EmployeeChange(3, EmployeeChange.Type.DELETED, earlier)),
+                changeLog.since(2).changes());
+    }
+
+    @Test
+    void removeFirstByName_shouldNotAdvanceVersionWhenNothingMatches() {
+        // Arrange
+        store.add(employee("Ada Lovelace"));
+
+        // Act
+        Optional<MockEmployee> removed = store.removeFirstByName("Grace Hopper");
+
+        // Assert
+        assertEquals(Optional.empty(), removed);
+        assertEquals(1, changeLog.version());
+    }
+
+    @Test
+    void since_shouldResetOnceRequestedVersionIsNoLongerRetained() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            store.add(employee("Employee " + i));
+        }
+
+        // Act
+        ChangeSet retained = changeLog.since(2);
+        ChangeSet dropped = changeLog.since(1);
+        ChangeSet future = changeLog.since(6);
+
+        // Assert
+        assertFalse(retained.reset());
+        assertEquals(
+                List.of(3L, 4L, 5L),
+                retained.changes().stream().map(EmployeeChange::version).toList());
+        assertTrue(dropped.reset());
+        assertEquals(5, dropped.version());
+        assertTrue(future.reset());
+    }
+
+    @Test
+    void subscribe_shouldDeliverBacklogThenLaterChangesInOrder() {
+        // Arrange
+        store.add(employee("Ada Lovelace"));
+        List<ChangeSet> backlog = new ArrayList<>();
+        List<Long> delivered = new ArrayList<>();
+
+        // Act
+        changeLog.subscribe(0, backlog::add, change -> delivered.add(change.version()));
+        store.add(employee("Grace Hopper"));
+        store.removeFirstByName("Ada Lovelace");
+
+        // Assert
+        assertEquals(1, backlog.size());
+        assertEquals(
+                List.of(1L),
+                backlog.get(0).changes().stream().map(EmployeeChange::version).toList());
+        assertEquals(List.of(2L, 3L), delivered);
+    }
+
+    @Test
+    void restore_shouldContinueNumberingFromRecoveredVersion() {
+        // Arrange
+        changeLog.restore(41);
+
+        // Act
+        store.add(employee("Ada Lovelace"));
+
+        // Assert
+        assertEquals(42, changeLog.version());
+        assertTrue(changeLog.since(0).reset());
+    }
+
+    @Test
+    void add_shouldLeaveStoreAndChangeLogUntouchedWhenJournalFails() {
+        // Arrange
+        MockEmployee kept = employee("Ada Lovelace");
+        store.add(kept);
+        List<Long> delivered = new ArrayList<>();
+        changeLog.subscribe(-1, ignored -> {}, change -> delivered.add(change.version()));
+        MockEmployeeStore failing = new MockEmployeeStore(
+                changeLog, change -> CompletableFuture.failedFuture(new UncheckedIOException(new IOException("disk"))));
+        failing.seed(List.of(kept));
+
+        // Act & Assert
+        assertThrows(CompletionException.class, () -> failing.add(employee("Grace Hopper")));
+        assertThrows(CompletionException.class, () -> failing.removeFirstByName("Ada Lovelace"));
+        assertEquals(List.of(kept), failing.snapshot());
+        assertEquals(1, changeLog.version());
+        assertEquals(List.of(), delivered);
+    }
+
+    @Test
+    void add_shouldFailEveryQueuedWriterWhenJournalThrowsSynchronously() throws Exception {
+        // Arrange
+        CountDownLatch firstAppend = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger appends = new AtomicInteger();
+        MockEmployeeStore throwing = new MockEmployeeStore(changeLog, change -> {
+            if (appends.incrementAndGet() == 1) {
+                firstAppend.countDown();
+                await(release);
+            }
+            throw new IllegalStateException("journal unavailable");
+        });
+        ExecutorService writers = Executors.newFixedThreadPool(3);
+
+        try {
+            // Act
+            Future<?> leader = writers.submit(() -> throwing.add(employee("Ada Lovelace")));
+            assertTrue(firstAppend.await(5, TimeUnit.SECONDS));
+            Future<?> second = writers.submit(() -> throwing.add(employee("Grace Hopper")));
+            Future<?> third = writers.submit(() -> throwing.removeFirstByName("Ada Lovelace"));
+            Thread.sleep(100);
+            release.countDown();
+
+            // Assert
+            for (Future<?> writer : List.of(leader, second, third)) {
+                ExecutionException thrown =
+                        assertThrows(ExecutionException.class, () -> writer.get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, rootCause(thrown));
+            }
+            assertEquals(0, throwing.size());
+            assertEquals(0, changeLog.version());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    @Test
+    void removeFirstByNames_shouldSeeEarlierRemovalsInSameCommit() {
+        // Arrange
+        MockEmployee first = employee("Ada Lovelace");
+        MockEmployee second = employee("Ada Lovelace");
+        store.addAll(List.of(first, second));
+
+        // Act
+        List<Optional<MockEmployee>> removed =
+                store.removeFirstByNames(List.of("Ada Lovelace", "Ada Lovelace", "Ada Lovelace"));
+
+        // Assert
+        assertEquals(List.of(Optional.of(first), Optional.of(second), Optional.empty()), removed);
+        assertEquals(0, store.size());
+        assertEquals(4, changeLog.version());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Throwable rootCause(Throwable thrown) {
+        Throwable cause = thrown;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(36)
+                .title("Engineer")
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.service.FaultInjector;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private final FaultInjector faultInjector = new FaultInjector(new FaultInjectionProperties(false, null));
+    private final FaultInjectionFilter filter = new FaultInjectionFilter(faultInjector, new ObjectMapper());
+
+    @Test
+    void doFilter_shouldAnswerWithInjectedErrorWithoutCallingController() throws Exception {
+        // Arrange
+        faultInjector.activate(profile(1.0, 0.0, 503, 64));
+        AtomicBoolean called = new AtomicBoolean();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request("/api/v1/employee"), response, (req, res) -> called.set(true));
+
+        // Assert
+        assertFalse(called.get());
+        assertEquals(503, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Injected fault."));
+    }
+
+    @Test
+    void doFilter_shouldPassSlowBodyThroughUnchanged() throws Exception {
+        // Arrange
+        faultInjector.activate(profile(0.0, 1.0, 500, 3));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = "{\"data\":[1,2,3,4,5]}".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        filter.doFilter(request("/api/v1/employee"), response, (req, res) -> res.getOutputStream()
+                .write(body));
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+
+    @Test
+    void doFilter_shouldStreamSlowBodyWithoutBufferingIt() throws Exception {
+        // Arrange
+        faultInjector.activate(profile(0.0, 1.0, 500, 4));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean committedWhileWriting = new AtomicBoolean();
+
+        // Act
+        filter.doFilter(request("/api/v1/employee"), response, (req, res) -> {
+            res.getOutputStream().write("first-chunk".getBytes(StandardCharsets.UTF_8));
+            committedWhileWriting.set(response.isCommitted());
+            res.getWriter().write(" and the rest");
+        });
+
+        // Assert
+        assertTrue(committedWhileWriting.get());
+        assertEquals("first-chunk and the rest", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_shouldNeverFaultAdminRequests() throws Exception {
+        // Arrange
+        faultInjector.activate(new FaultProfile(
+                null, List.of(new FaultProfile.EndpointFault(null, "/**", 1.0, 500, 0.0, 0.0, null, null))));
+        AtomicBoolean called = new AtomicBoolean();
+
+        // Act
+        filter.doFilter(request("/admin/faults"), new MockHttpServletResponse(), (req, res) -> called.set(true));
+
+        // Assert
+        assertTrue(called.get());
+    }
+
+    private static FaultProfile profile(double errorRate, double slowBodyRate, int errorStatus, int chunkBytes) {
+        return new FaultProfile(
+                null,
+                List.of(new FaultProfile.EndpointFault(
+                        null,
+                        "/api/v1/employee/**",
+                        errorRate,
+                        errorStatus,
+                        0.0,
+                        slowBodyRate,
+                        chunkBytes,
+                        Duration.ZERO)));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRequestURI(path);
+        return request;
+    }
+}
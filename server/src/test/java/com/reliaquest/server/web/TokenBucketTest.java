@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_shouldAdmitBurstThenRejectWithWaitUntilNextEmission() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+
+        // Act
+        long first = bucket.tryAcquire(START);
+        long second = bucket.tryAcquire(START);
+        long third = bucket.tryAcquire(START);
+        long rejected = bucket.tryAcquire(START);
+
+        // Assert
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(0, third);
+        assertEquals(-1 - SECOND, rejected);
+    }
+
+    @Test
+    void tryAcquire_shouldAdmitOneRequestPerEmissionIntervalOnceDrained() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, 3 * SECOND, START);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(START);
+        }
+
+        // Act
+        long early = bucket.tryAcquire(START + SECOND / 2);
+        long onTime = bucket.tryAcquire(START + SECOND);
+        long tooSoon = bucket.tryAcquire(START + SECOND);
+
+        // Assert
+        assertEquals(-1 - SECOND / 2, early);
+        assertEquals(0, onTime);
+        assertEquals(-1 - SECOND, tooSoon);
+    }
+
+    @Test
+    void tryAcquire_shouldNotBankTokensBeyondCapacityWhileIdle() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 2 * SECOND, START);
+
+        // Act
+        long first = bucket.tryAcquire(START + 60 * SECOND);
+        long second = bucket.tryAcquire(START + 60 * SECOND);
+        long third = bucket.tryAcquire(START + 60 * SECOND);
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertTrue(third < 0);
+    }
+
+    @Test
+    void isFull_shouldBeTrueOnlyOnceEveryTokenHasRefilled() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 2 * SECOND, START);
+        bucket.tryAcquire(START);
+        bucket.tryAcquire(START);
+
+        // Act & Assert
+        assertFalse(bucket.isFull(START + SECOND));
+        assertTrue(bucket.isFull(START + 2 * SECOND));
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveCapacity() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, SECOND, START));
+    }
+}